@@ -1,21 +1,27 @@
 package mythic.hub;
 
+import mythic.hub.chat.ChatFilter;
+import mythic.hub.chat.ChatPipeline;
+import mythic.hub.chat.ChatRateLimiter;
+import mythic.hub.chat.ChatStateStore;
+import mythic.hub.chat.NetworkChatBus;
 import mythic.hub.commands.FriendsCommand;
+import mythic.hub.commands.IgnoreCommand;
 import mythic.hub.commands.ServerCommand;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
+import net.minestom.server.entity.PlayerSkin;
 import net.minestom.server.event.inventory.InventoryPreClickEvent;
 import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
 import net.minestom.server.event.player.PlayerSpawnEvent;
+import net.minestom.server.event.player.PlayerSwapItemEvent;
 import net.minestom.server.event.player.PlayerDisconnectEvent;
+import net.minestom.server.event.player.PlayerMoveEvent;
 import net.minestom.server.event.player.PlayerUseItemEvent;
 import net.minestom.server.event.player.PlayerChatEvent;
 import net.minestom.server.instance.InstanceContainer;
 import net.minestom.server.instance.LightingChunk;
 import net.minestom.server.instance.block.Block;
-import net.minestom.server.item.ItemStack;
-import net.minestom.server.item.ItemComponent;
-import net.minestom.server.item.Material;
 import mythic.hub.commands.ChatCommands;
 import mythic.hub.commands.TagCommand;
 import mythic.hub.debug.RadiumDebugCommand;
@@ -23,17 +29,31 @@ import mythic.hub.config.DatabaseConfig;
 import mythic.hub.config.VelocityConfig;
 import mythic.hub.config.VersionConfig;
 import mythic.hub.config.ProxyConfig;
+import mythic.hub.database.RedisRpcClient;
+import mythic.hub.messaging.MessageCodec;
+import mythic.hub.metrics.MetricsRegistry;
+import mythic.hub.metrics.TickMonitor;
+import mythic.hub.handlers.HubItemProtection;
 import mythic.hub.handlers.ItemHandler;
+import mythic.hub.handlers.ServerSelectorMenu;
 import mythic.hub.handlers.PlayerHandler;
 import mythic.hub.managers.ChatManager;
+import mythic.hub.managers.PlayerCountManager;
 import mythic.hub.managers.PlayerDataManager;
 import mythic.hub.managers.ProxyManager;
+import mythic.hub.managers.RelationshipCache;
 import mythic.hub.managers.ScoreboardManager;
 import mythic.hub.managers.ServerManager;
 import mythic.hub.managers.TabListManager;
+import mythic.hub.managers.VisibilityManager;
 import mythic.hub.integrations.radium.RadiumClient;
+import mythic.hub.skins.RedisSkinFetcher;
+import mythic.hub.skins.SkinFetcher;
+import mythic.hub.skins.SkinResolver;
 import mythic.hub.world.HubWorld;
+import mythic.hub.world.SpawnAllocator;
 
+import java.time.Duration;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -49,8 +69,23 @@ public class MythicHubServer {
     private static PlayerDataManager playerDataManager;
     private static ServerManager serverManager;
     private static ChatManager chatManager;
+    private static ChatPipeline chatPipeline;
+    private static ChatFilter chatFilter;
+    private static ChatRateLimiter chatRateLimiter;
+    private static ChatStateStore chatStateStore;
+    private static NetworkChatBus networkChatBus;
     private static ProxyManager proxyManager;
+    private static PlayerCountManager playerCountManager;
+    private static ServerSelectorMenu serverSelectorMenu;
     private static RadiumClient radiumClient;
+    private static RedisRpcClient rpcClient;
+    private static RelationshipCache relationshipCache;
+    private static VisibilityManager visibilityManager;
+    private static SpawnAllocator spawnAllocator;
+    private static SkinResolver skinResolver;
+    private static RedisSkinFetcher redisSkins;
+    private static TickMonitor tickMonitor;
+    private static MetricsRegistry metricsRegistry;
     private static ScheduledExecutorService scheduler;
     private static InstanceContainer hubInstance;
 
@@ -85,7 +120,11 @@ public class MythicHubServer {
         MinecraftServer.getCommandManager().register(new ServerCommand());
         MinecraftServer.getCommandManager().register(new mythic.hub.commands.RadiumTestCommand());
         MinecraftServer.getCommandManager().register(new RadiumDebugCommand());
+        MinecraftServer.getCommandManager().register(new IgnoreCommand());
         
+        // Register chat and tag commands
+        registerCommands();
+
         // Register staff command forwarders for Radium integration
         registerStaffCommands();
 
@@ -95,6 +134,9 @@ public class MythicHubServer {
             if (radiumClient != null) {
                 radiumClient.shutdown();
             }
+            if (rpcClient != null) {
+                rpcClient.shutdown();
+            }
             if (playerDataManager != null) {
                 playerDataManager.shutdown();
             }
@@ -104,6 +146,21 @@ public class MythicHubServer {
             if (proxyManager != null) {
                 proxyManager.shutdown();
             }
+            if (metricsRegistry != null) {
+                metricsRegistry.shutdown();
+            }
+            if (chatFilter != null) {
+                chatFilter.shutdown();
+            }
+            if (networkChatBus != null) {
+                networkChatBus.shutdown();
+            }
+            if (chatStateStore != null) {
+                chatStateStore.shutdown();
+            }
+            if (skinResolver != null) {
+                skinResolver.shutdown();
+            }
         }));
 
         // Start the server
@@ -128,27 +185,129 @@ public class MythicHubServer {
         DatabaseConfig databaseConfig = new DatabaseConfig();
         VelocityConfig velocityConfig = new VelocityConfig();
 
+        // Start measuring ticks before anything reads TPS
+        tickMonitor = new TickMonitor();
+        tickMonitor.register(MinecraftServer.getGlobalEventHandler());
+        metricsRegistry = new MetricsRegistry();
+
         // Initialize managers
-        scoreboardManager = new ScoreboardManager();
-        tabListManager = new TabListManager();
         playerDataManager = new PlayerDataManager(databaseConfig);
-        chatManager = new ChatManager();
 
         // Initialize server manager with server name
         String serverName = System.getProperty("server.name", "Hub-1"); // Can be set via JVM args
         serverManager = new ServerManager(playerDataManager.getRedisManager(), serverName);
 
+        // Shared encoder for everything this hub publishes over Redis
+        MessageCodec messageCodec = new MessageCodec(serverName);
+
         // Initialize proxy manager for Velocity integration
-        proxyManager = new ProxyManager(playerDataManager.getRedisManager(), velocityConfig);
+        proxyManager = new ProxyManager(playerDataManager.getRedisManager(), velocityConfig, messageCodec);
+
+        // Live player counts of the other servers, shown on the scoreboard and server selector
+        playerCountManager = new PlayerCountManager(playerDataManager.getRedisManager(), messageCodec);
+        serverSelectorMenu = new ServerSelectorMenu(playerCountManager);
+
+        // Renders player counts on construction, so it must come after the count manager
+        scoreboardManager = new ScoreboardManager();
+
+        // Initialize request/response layer used for commands that expect a reply
+        rpcClient = new RedisRpcClient(playerDataManager.getRedisManager(), messageCodec);
 
         // Initialize Radium client for integration with Radium backend
-        radiumClient = new RadiumClient(playerDataManager.getRedisManager());
+        radiumClient = new RadiumClient(playerDataManager.getRedisManager(), rpcClient);
+
+        // Friends and staff of online players, shared by tab list, chat and visibility
+        relationshipCache = new RelationshipCache(radiumClient);
+        tabListManager = new TabListManager(relationshipCache);
+        visibilityManager = new VisibilityManager(relationshipCache);
+
+        // Spread joining players over several spawn points
+        spawnAllocator = new SpawnAllocator();
+
+        // Player head textures, cached in memory and on disk so spawning never waits on Mojang.
+        // Skins other hubs saw at login are read from Redis before falling back to Mojang.
+        redisSkins = new RedisSkinFetcher(playerDataManager.getRedisManager(),
+                Duration.ofHours(Long.getLong("skins.cache.ttl.hours", 24)));
+        skinResolver = new SkinResolver(redisSkins.orElse(SkinFetcher.MOJANG));
+
+        // Chat lock, slow mode and filter version shared by every hub
+        chatStateStore = new ChatStateStore(playerDataManager.getRedisManager(), messageCodec);
+        chatManager = new ChatManager(chatStateStore, relationshipCache);
+
+        // Orders, formats and batches player chat
+        chatRateLimiter = new ChatRateLimiter(relationshipCache);
+        chatFilter = new ChatFilter();
+        chatFilter.reloadIfChanged();
+        chatStateStore.addListener((previous, current) -> {
+            chatRateLimiter.setForcedSlowMode(current.slowMode());
+            if (current.filterVersion() != previous.filterVersion()) {
+                chatFilter.reload();
+            }
+        });
+        chatStateStore.refresh();
+
+        if (NetworkChatBus.isEnabled()) {
+            // Share chat with the other hubs; one Redis publish per tick at most
+            networkChatBus = new NetworkChatBus(playerDataManager.getRedisManager(), messageCodec, chatManager, chatRateLimiter);
+        }
+        chatPipeline = new ChatPipeline(radiumClient, chatManager, chatRateLimiter, chatFilter, networkChatBus);
 
         scheduler = Executors.newScheduledThreadPool(3);
 
+        registerMetrics();
+
         System.out.println("All managers initialized successfully!");
     }
 
+    // Register gauges and expose them over HTTP when metrics.port is set
+    private void registerMetrics() {
+        metricsRegistry.gauge("hub_tps_1s", "Ticks per second over the last second",
+                () -> tickMonitor.getSnapshot().lastSecond().tps());
+        metricsRegistry.gauge("hub_tps_10s", "Ticks per second over the last 10 seconds",
+                () -> tickMonitor.getSnapshot().lastTenSeconds().tps());
+        metricsRegistry.gauge("hub_tps_1m", "Ticks per second over the last minute",
+                () -> tickMonitor.getSnapshot().lastMinute().tps());
+        metricsRegistry.gauge("hub_mspt_mean", "Mean tick duration in milliseconds over the last minute",
+                () -> tickMonitor.getSnapshot().lastMinute().msptMean());
+        metricsRegistry.gauge("hub_mspt_p50", "Median tick duration in milliseconds over the last minute",
+                () -> tickMonitor.getSnapshot().lastMinute().msptP50());
+        metricsRegistry.gauge("hub_mspt_p95", "95th percentile tick duration in milliseconds over the last minute",
+                () -> tickMonitor.getSnapshot().lastMinute().msptP95());
+        metricsRegistry.gauge("hub_mspt_p99", "99th percentile tick duration in milliseconds over the last minute",
+                () -> tickMonitor.getSnapshot().lastMinute().msptP99());
+        metricsRegistry.gauge("hub_mspt_max", "Longest tick in milliseconds over the last minute, including one still running",
+                () -> tickMonitor.getSnapshot().lastMinute().msptMax());
+        metricsRegistry.gauge("hub_tick_overrun_ms", "Milliseconds the current tick has run past its slot",
+                () -> tickMonitor.getSnapshot().currentTickMillis());
+        metricsRegistry.gauge("hub_players_online", "Players connected to this hub",
+                () -> MinecraftServer.getConnectionManager().getOnlinePlayers().size());
+        metricsRegistry.gauge("hub_players_hiding", "Players with player visibility turned off",
+                () -> visibilityManager.getHidingCount());
+        metricsRegistry.gauge("hub_chat_pending_senders", "Players with chat messages still being formatted",
+                () -> chatPipeline.getPendingSenders());
+        metricsRegistry.gauge("hub_chat_slow_mode", "1 while chat slow mode is active",
+                () -> chatRateLimiter.isSlowMode() ? 1 : 0);
+        metricsRegistry.gauge("hub_chat_messages_per_second", "Chat messages accepted in the last second",
+                () -> chatRateLimiter.getMessagesPerSecond());
+        metricsRegistry.gauge("hub_chat_deliveries_per_second", "Chat lines delivered to players in the last second",
+                () -> chatRateLimiter.getDeliveriesPerSecond());
+        metricsRegistry.gauge("hub_chat_rate_limited_total", "Chat messages rejected by the rate limiter",
+                () -> chatRateLimiter.getRateLimitedTotal());
+        metricsRegistry.gauge("hub_rpc_pending", "Proxy requests waiting for a reply",
+                () -> rpcClient.getPendingCount());
+        metricsRegistry.gauge("hub_rpc_latency_avg_ms", "Average proxy request round trip in milliseconds",
+                () -> rpcClient.getAverageLatencyMillis());
+
+        int metricsPort = Integer.getInteger("metrics.port", 0); // 0 disables the endpoint
+        if (metricsPort > 0) {
+            try {
+                metricsRegistry.startHttpServer(metricsPort);
+            } catch (Exception e) {
+                System.err.println("Failed to start metrics endpoint on port " + metricsPort + ": " + e.getMessage());
+            }
+        }
+    }
+
     // Register all commands
     private static void registerCommands() {
         var commandManager = MinecraftServer.getCommandManager();
@@ -200,14 +359,66 @@ public class MythicHubServer {
         return chatManager;
     }
 
+    public ChatPipeline getChatPipeline() {
+        return chatPipeline;
+    }
+
+    public ChatRateLimiter getChatRateLimiter() {
+        return chatRateLimiter;
+    }
+
+    public ChatFilter getChatFilter() {
+        return chatFilter;
+    }
+
+    public ChatStateStore getChatStateStore() {
+        return chatStateStore;
+    }
+
     public ProxyManager getProxyManager() {
         return proxyManager;
     }
 
+    public PlayerCountManager getPlayerCountManager() {
+        return playerCountManager;
+    }
+
+    public ServerSelectorMenu getServerSelectorMenu() {
+        return serverSelectorMenu;
+    }
+
     public RadiumClient getRadiumClient() {
         return radiumClient;
     }
 
+    public RedisRpcClient getRpcClient() {
+        return rpcClient;
+    }
+
+    public RelationshipCache getRelationshipCache() {
+        return relationshipCache;
+    }
+
+    public SkinResolver getSkinResolver() {
+        return skinResolver;
+    }
+
+    public VisibilityManager getVisibilityManager() {
+        return visibilityManager;
+    }
+
+    public SpawnAllocator getSpawnAllocator() {
+        return spawnAllocator;
+    }
+
+    public TickMonitor getTickMonitor() {
+        return tickMonitor;
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
     public ScheduledExecutorService getScheduler() {
         return scheduler;
     }
@@ -216,6 +427,20 @@ public class MythicHubServer {
         return hubInstance;
     }
 
+    private static void rememberLoginSkin(Player player) {
+        PlayerSkin skin = player.getSkin();
+        if (skin == null || skinResolver == null) {
+            return;
+        }
+
+        skinResolver.put(player.getUuid(), skin);
+        try {
+            redisSkins.publish(player.getUuid(), skin);
+        } catch (Exception e) {
+            System.err.println("Failed to publish skin for " + player.getUsername() + ": " + e.getMessage());
+        }
+    }
+
     private static void setupDefaultInstance() {
         // Create the instance manager
         var instanceManager = MinecraftServer.getInstanceManager();
@@ -258,13 +483,16 @@ public class MythicHubServer {
             final Player player = event.getPlayer();
             System.out.println("Player configuring: " + player.getUsername());
             event.setSpawningInstance(instanceContainer);
-            player.setRespawnPoint(HubWorld.getSpawnLocation());
+            player.setRespawnPoint(spawnAllocator.allocate(player));
 
             // Load player data asynchronously
             playerDataManager.loadPlayer(player).thenAccept(profile -> {
                 System.out.println("Loaded profile for " + player.getUsername());
             });
 
+            // Signed textures forwarded with the login; keep them for head rendering and share them
+            rememberLoginSkin(player);
+
             PlayerHandler.onPlayerConfiguration(event);
         });
 
@@ -282,6 +510,21 @@ public class MythicHubServer {
             final Player player = event.getPlayer();
             System.out.println("Player spawned: " + player.getUsername());
 
+            // Load friends and staff status for the hot paths that need them
+            if (relationshipCache != null) {
+                relationshipCache.load(player);
+            }
+
+            // Install the visibility toggle's viewer rule
+            if (visibilityManager != null) {
+                visibilityManager.addPlayer(player);
+            }
+
+            // Add player to the chat audience
+            if (chatManager != null) {
+                chatManager.onPlayerJoin(player);
+            }
+
             // Initialize player in scoreboard manager
             if (scoreboardManager != null) {
                 scoreboardManager.createScoreboard(player);
@@ -290,7 +533,6 @@ public class MythicHubServer {
             // Initialize player in tab list manager
             if (tabListManager != null) {
                 tabListManager.updateTabList(player);
-                tabListManager.updateAllTabLists(); // Update for all players
             }
 
             // Call player handler
@@ -310,11 +552,21 @@ public class MythicHubServer {
             // Remove from tab list
             if (tabListManager != null) {
                 tabListManager.removePlayer(player);
-                tabListManager.updateAllTabLists(); // Update for remaining players
+            }
+
+            if (relationshipCache != null) {
+                relationshipCache.unload(player);
+            }
+
+            // Free the player's place at their spawn point if they never left it
+            if (spawnAllocator != null) {
+                spawnAllocator.release(player);
             }
 
             // Reset player visibility
-            ItemHandler.resetPlayerVisibility(player);
+            if (visibilityManager != null) {
+                visibilityManager.removePlayer(player);
+            }
 
             // Unload player data
             if (playerDataManager != null) {
@@ -325,10 +577,19 @@ public class MythicHubServer {
             if (chatManager != null) {
                 chatManager.onPlayerDisconnect(player);
             }
+            if (chatRateLimiter != null) {
+                chatRateLimiter.release(player);
+            }
 
             PlayerHandler.onPlayerDisconnect(event);
         });
 
+        // Keep the view cap's spatial grid current; only cell changes cost anything
+        globalEventHandler.addListener(PlayerMoveEvent.class, event -> {
+            visibilityManager.onMove(event.getPlayer(), event.getNewPosition());
+            spawnAllocator.onMove(event.getPlayer(), event.getNewPosition());
+        });
+
         // Handle player chat
         globalEventHandler.addListener(PlayerChatEvent.class, event -> {
             if (chatManager != null) {
@@ -341,97 +602,21 @@ public class MythicHubServer {
             ItemHandler.onPlayerUseItem(event);
         });
 
-        // Handle item drop prevention
-        globalEventHandler.addListener(net.minestom.server.event.item.ItemDropEvent.class, event -> {
-            // Get the entity that dropped the item (should be a Player)
-            if (event.getEntity() instanceof Player player) {
-                ItemStack droppedItem = event.getItemStack();
-                
-                // Check if trying to drop a hub item
-                if (droppedItem != null && droppedItem.material() != Material.AIR) {
-                    var customName = droppedItem.get(ItemComponent.CUSTOM_NAME);
-                    if (customName != null) {
-                        String itemName = ((net.kyori.adventure.text.TextComponent) customName).content();
-                        if (isHubItem(itemName)) {
-                            event.setCancelled(true);
-                            // Refresh hub items to ensure they're in the correct slots
-                            mythic.hub.handlers.HubItems.giveHubItems(player);
-                        }
-                    }
-                }
-            }
-        });
+        // Hub item protection: cancel anything that would move a hub item
+        globalEventHandler.addListener(net.minestom.server.event.item.ItemDropEvent.class, HubItemProtection::onItemDrop);
+        globalEventHandler.addListener(PlayerSwapItemEvent.class, HubItemProtection::onSwapItem);
 
         // Handle inventory pre-clicks (this can be cancelled)
         globalEventHandler.addListener(InventoryPreClickEvent.class, event -> {
             Player player = event.getPlayer();
-            ItemStack clickedItem = event.getClickedItem();
             
             // Check if this is a player's inventory interaction
             if (event.getInventory() == null || event.getInventory().equals(player.getInventory())) {
-                // This is the player's own inventory - check if they're trying to move hub items
-                if (clickedItem != null && clickedItem.material() != Material.AIR) {
-                    var customName = clickedItem.get(ItemComponent.CUSTOM_NAME);
-                    if (customName != null) {
-                        String itemName = ((net.kyori.adventure.text.TextComponent) customName).content();
-                        
-                        // Check if this is a hub item that shouldn't be moved
-                        if (isHubItem(itemName)) {
-                            event.setCancelled(true);
-                            return;
-                        }
-                    }
-                }
-                
-                // ADDITIONAL CHECK: Handle number key swaps (1-9 keys)
-                // Check if they're trying to swap with a hub item slot
-                if (event.getSlot() >= 9) { // Only check inventory slots (not hotbar)
-                    int hotbarSlot = -1;
-                    
-                    // This is tricky - we need to check if they pressed a number key
-                    // For now, let's check all hotbar slots for hub items and cancel if any exist
-                    for (int i = 0; i <= 8; i++) {
-                        ItemStack hotbarItem = player.getInventory().getItemStack(i);
-                        if (hotbarItem != null && hotbarItem.material() != Material.AIR) {
-                            var customName = hotbarItem.get(ItemComponent.CUSTOM_NAME);
-                            if (customName != null) {
-                                String itemName = ((net.kyori.adventure.text.TextComponent) customName).content();
-                                if (isHubItem(itemName)) {
-                                    // Found a hub item in hotbar - cancel any inventory click that could swap with it
-                                    event.setCancelled(true);
-                                    return;
-                                }
-                            }
-                        }
-                    }
-                }
+                HubItemProtection.onInventoryPreClick(event);
             } else {
                 // This is a custom inventory (GUI) - prevent all interactions
                 event.setCancelled(true);
-
-                if (clickedItem != null && clickedItem.material() != Material.AIR) {
-                    String itemName = "";
-
-                    // Get the custom name using the component system
-                    var customName = clickedItem.get(ItemComponent.CUSTOM_NAME);
-                    if (customName != null) {
-                        itemName = ((net.kyori.adventure.text.TextComponent) customName).content();
-                    }
-
-                    // Handle menu item clicks
-                    if (itemName.equals("Close")) {
-                        player.closeInventory();
-                    } else if (itemName.equals("Friend Requests")) {
-                        player.closeInventory();
-                        ItemHandler.handleFriends(player);
-                    } else if (itemName.equals("KitPvP") || itemName.equals("Survival") || itemName.equals("Creative")) {
-                        player.closeInventory();
-                        player.sendMessage(net.kyori.adventure.text.Component.text("Connecting to " + itemName + "...")
-                                .color(net.kyori.adventure.text.format.NamedTextColor.GREEN));
-                        // Here you would implement server switching logic
-                    }
-                    // Add more menu item handlers as needed
-                }
+                ItemHandler.onMenuClick(player, event.getInventory(), event.getClickedItem());
             }
         });
 
@@ -439,92 +624,59 @@ public class MythicHubServer {
     }
 
     private static void startUpdaters() {
+        // Publish formatted chat once per tick
+        chatPipeline.start();
+
+        // Push changed player counts into the shared server selector
+        serverSelectorMenu.start();
+
+        // Re-pick capped player views as players cross grid cells
+        visibilityManager.start();
+
+        // Chat slow mode governor
+        scheduler.scheduleAtFixedRate(logFailures("evaluate chat slow mode", chatRateLimiter::evaluateSlowMode),
+                1, 1, TimeUnit.SECONDS);
+
+        // Re-read shared chat state in case a notification was missed
+        scheduler.scheduleAtFixedRate(logFailures("refresh chat state", chatStateStore::refresh),
+                30, 30, TimeUnit.SECONDS);
+
+        // Pick up edits to the chat blocklist
+        scheduler.scheduleAtFixedRate(logFailures("reload chat filter", chatFilter::reloadIfChanged),
+                30, 30, TimeUnit.SECONDS);
+
+        // Tick statistics are aggregated here so the tick thread only records durations
+        scheduler.scheduleAtFixedRate(logFailures("refresh tick statistics", tickMonitor::refreshSnapshot),
+                1, 1, TimeUnit.SECONDS);
+
         // Scoreboard updater
-        scheduler.scheduleAtFixedRate(() -> {
+        scheduler.scheduleAtFixedRate(logFailures("update scoreboards", () -> {
             if (scoreboardManager != null) {
                 scoreboardManager.updateAllScoreboards();
             }
-        }, 1, 5, TimeUnit.SECONDS);
+        }), 1, 5, TimeUnit.SECONDS);
 
         // Tab list updater (less frequent)
-        scheduler.scheduleAtFixedRate(() -> {
+        scheduler.scheduleAtFixedRate(logFailures("update tab lists", () -> {
             if (tabListManager != null) {
                 tabListManager.updateAllTabLists();
             }
-        }, 5, 5, TimeUnit.SECONDS);
-        
-        // Start hub item monitor
-        startHubItemMonitor();
+        }), 5, 5, TimeUnit.SECONDS);
 
         System.out.println("All updaters started!");
     }
 
-    // Helper method to check if an item is a hub item that shouldn't be moved
-    private static boolean isHubItem(String itemName) {
-        return itemName.equals("Server Selector") ||
-               itemName.equals("Player Settings") ||
-               itemName.equals("Cosmetics") ||
-               itemName.startsWith("Player Visibility:") ||
-               itemName.equals("Profile");
-    }
-    private static void startHubItemMonitor() {
-        // Monitor and fix hub item positions every 500ms
-        scheduler.scheduleAtFixedRate(() -> {
-            for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
-                ensureHubItemsInCorrectSlots(player);
-            }
-        }, 500, 500, TimeUnit.MILLISECONDS);
-    }
-    
-    private static void ensureHubItemsInCorrectSlots(Player player) {
-        // Expected hub item positions
-        int[] hubSlots = {0, 1, 4, 7, 8};
-        String[] expectedItems = {"Server Selector", "Player Settings", "Cosmetics", "Player Visibility:", "Profile"};
-        
-        boolean needsRefresh = false;
-        
-        for (int i = 0; i < hubSlots.length; i++) {
-            int slot = hubSlots[i];
-            String expectedItem = expectedItems[i];
-            
-            ItemStack currentItem = player.getInventory().getItemStack(slot);
-            
-            // Check if the correct hub item is in the correct slot
-            if (currentItem == null || currentItem.material() == Material.AIR) {
-                needsRefresh = true;
-                break;
-            }
-            
-            var customName = currentItem.get(ItemComponent.CUSTOM_NAME);
-            if (customName == null) {
-                needsRefresh = true;
-                break;
-            }
-            
-            String itemName = ((net.kyori.adventure.text.TextComponent) customName).content();
-            if (!itemName.equals(expectedItem) && !itemName.startsWith(expectedItem)) {
-                needsRefresh = true;
-                break;
+    /**
+     * Wrap a periodic task so one failure is logged instead of silently cancelling every later run
+     */
+    private static Runnable logFailures(String description, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                System.err.println("Failed to " + description + ": " + e.getMessage());
+                e.printStackTrace();
             }
-        }
-        
-        // Also check if hub items are in wrong slots (moved to inventory)
-        for (int slot = 9; slot < 36; slot++) { // Check main inventory (not hotbar)
-            ItemStack item = player.getInventory().getItemStack(slot);
-            if (item != null && item.material() != Material.AIR) {
-                var customName = item.get(ItemComponent.CUSTOM_NAME);
-                if (customName != null) {
-                    String itemName = ((net.kyori.adventure.text.TextComponent) customName).content();
-                    if (isHubItem(itemName)) {
-                        needsRefresh = true;
-                        break;
-                    }
-                }
-            }
-        }
-        
-        if (needsRefresh) {
-            mythic.hub.handlers.HubItems.giveHubItems(player);
-        }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,281 @@
+package mythic.hub.chat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chat filter stage: strips legacy formatting codes and masks blocked terms.
+ *
+ * Blocked terms are compiled into a single Aho-Corasick automaton, so a message is
+ * scanned once in time linear to its length regardless of how many terms are listed.
+ * The list is read from {@code -Dchat.filter.file} (one term per line, # for comments)
+ * and rebuilt on a background thread when it changes; the new automaton is swapped in
+ * atomically and messages keep using the previous one until then.
+ */
+public class ChatFilter {
+    private static final char MASK = '*';
+
+    private final Path file;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private volatile Automaton automaton = Automaton.build(List.of());
+    private volatile long loadedModifiedTime = -1;
+    private volatile int version;
+
+    public ChatFilter() {
+        this(Paths.get(System.getProperty("chat.filter.file", "chat-filter.txt")));
+    }
+
+    public ChatFilter(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Strip formatting codes and mask blocked terms
+     * @return the cleaned message, possibly empty
+     */
+    public String filter(String message) {
+        String stripped = stripFormatting(message);
+        return automaton.mask(stripped);
+    }
+
+    /**
+     * Remove legacy color/format codes (&a, §l, &#RRGGBB) so players can't style their messages
+     */
+    public static String stripFormatting(String message) {
+        StringBuilder out = new StringBuilder(message.length());
+        int i = 0;
+        while (i < message.length()) {
+            char c = message.charAt(i);
+            if ((c == '&' || c == '§') && i + 1 < message.length()) {
+                char code = Character.toLowerCase(message.charAt(i + 1));
+                if (code == '#' && i + 8 <= message.length() && isHex(message, i + 2, i + 8)) {
+                    i += 8;
+                    continue;
+                }
+                if ((code >= '0' && code <= '9') || (code >= 'a' && code <= 'f') || (code >= 'k' && code <= 'o')
+                        || code == 'r' || code == 'x') {
+                    i += 2;
+                    continue;
+                }
+            }
+            if (c != '§') { // A lone section sign is never legitimate chat input
+                out.append(c);
+            }
+            i++;
+        }
+        return out.toString().trim();
+    }
+
+    private static boolean isHex(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Character.digit(text.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rebuild the automaton from the blocklist file off-thread
+     * @return the number of terms loaded
+     */
+    public CompletableFuture<Integer> reload() {
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> terms = readTerms();
+            automaton = Automaton.build(terms);
+            version++;
+            System.out.println("[ChatFilter] Loaded " + terms.size() + " blocked terms (version " + version + ")");
+            return terms.size();
+        }, rebuildExecutor);
+    }
+
+    /**
+     * Reload when the blocklist file's modification time changed. Safe to call periodically.
+     */
+    public void reloadIfChanged() {
+        long modified;
+        try {
+            modified = Files.exists(file) ? Files.getLastModifiedTime(file).toMillis() : 0;
+        } catch (IOException e) {
+            return;
+        }
+
+        if (modified != loadedModifiedTime && rebuilding.compareAndSet(false, true)) {
+            loadedModifiedTime = modified;
+            reload().whenComplete((count, throwable) -> rebuilding.set(false));
+        }
+    }
+
+    private List<String> readTerms() {
+        List<String> terms = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return terms;
+        }
+
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String term = line.trim().toLowerCase(Locale.ROOT);
+                if (!term.isEmpty() && !term.startsWith("#")) {
+                    terms.add(term);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[ChatFilter] Failed to read " + file + ": " + e.getMessage());
+        }
+        return terms;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getTermCount() {
+        return automaton.termCount;
+    }
+
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Immutable Aho-Corasick automaton over lower-cased characters.
+     * Each node stores its outgoing edges as a sorted char array for binary search.
+     */
+    private static final class Automaton {
+        private final char[][] edgeChars;
+        private final int[][] edgeTargets;
+        private final int[] fail;
+        // Length of the longest term that ends at this node, following fail links; 0 if none
+        private final int[] matchLength;
+        private final int termCount;
+
+        private Automaton(char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] matchLength, int termCount) {
+            this.edgeChars = edgeChars;
+            this.edgeTargets = edgeTargets;
+            this.fail = fail;
+            this.matchLength = matchLength;
+            this.termCount = termCount;
+        }
+
+        static Automaton build(List<String> terms) {
+            List<TreeMap<Character, Integer>> children = new ArrayList<>();
+            List<Integer> terminalLength = new ArrayList<>();
+            children.add(new TreeMap<>());
+            terminalLength.add(0);
+
+            // Trie of all terms
+            for (String term : terms) {
+                int node = 0;
+                for (int i = 0; i < term.length(); i++) {
+                    char c = term.charAt(i);
+                    Integer next = children.get(node).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new TreeMap<>());
+                        terminalLength.add(0);
+                        children.get(node).put(c, next);
+                    }
+                    node = next;
+                }
+                terminalLength.set(node, Math.max(terminalLength.get(node), term.length()));
+            }
+
+            int size = children.size();
+            char[][] edgeChars = new char[size][];
+            int[][] edgeTargets = new int[size][];
+            for (int node = 0; node < size; node++) {
+                TreeMap<Character, Integer> edges = children.get(node);
+                edgeChars[node] = new char[edges.size()];
+                edgeTargets[node] = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    edgeChars[node][i] = edge.getKey();
+                    edgeTargets[node][i] = edge.getValue();
+                    i++;
+                }
+            }
+
+            // Breadth-first fail links
+            int[] fail = new int[size];
+            int[] matchLength = new int[size];
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : edgeTargets[0]) {
+                queue.add(child);
+                matchLength[child] = terminalLength.get(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int i = 0; i < edgeChars[node].length; i++) {
+                    char c = edgeChars[node][i];
+                    int child = edgeTargets[node][i];
+
+                    int state = fail[node];
+                    int target;
+                    while ((target = step(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                        state = fail[state];
+                    }
+                    fail[child] = target >= 0 && target != child ? target : 0;
+                    matchLength[child] = Math.max(terminalLength.get(child), matchLength[fail[child]]);
+                    queue.add(child);
+                }
+            }
+
+            return new Automaton(edgeChars, edgeTargets, fail, matchLength, terms.size());
+        }
+
+        private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+            int index = Arrays.binarySearch(edgeChars[node], c);
+            return index >= 0 ? edgeTargets[node][index] : -1;
+        }
+
+        String mask(String text) {
+            if (termCount == 0 || text.isEmpty()) {
+                return text;
+            }
+
+            char[] out = null;
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = Character.toLowerCase(text.charAt(i));
+                int next;
+                while ((next = step(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                    state = fail[state];
+                }
+                state = Math.max(next, 0);
+
+                int length = matchLength[state];
+                if (length > 0) {
+                    if (out == null) {
+                        out = text.toCharArray();
+                    }
+                    for (int j = i - length + 1; j <= i; j++) {
+                        if (!Character.isWhitespace(out[j])) {
+                            out[j] = MASK;
+                        }
+                    }
+                }
+            }
+            return out != null ? new String(out) : text;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package mythic.hub.chat;
+
+import mythic.hub.integrations.radium.RadiumClient;
+import mythic.hub.managers.ChatManager;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Formats chat messages off the tick thread and publishes them once per tick.
+ *
+ * Each sender has their own chain of formatting futures, so one player's messages are
+ * always published in the order they were typed, while different players' messages are
+ * formatted in parallel. Formatted lines are queued and the whole queue is broadcast on
+ * the tick thread at the start of the next tick. When the network chat scope is enabled
+ * the same lines are handed to the {@link NetworkChatBus} for the other hubs.
+ */
+public class ChatPipeline {
+    private final RadiumClient radiumClient;
+    private final ChatManager chatManager;
+    private final ChatRateLimiter rateLimiter;
+    private final ChatFilter filter;
+    private final NetworkChatBus networkBus; // null unless chat.network is enabled
+
+    // Last pending formatting step per sender; the next message chains onto it
+    private final ConcurrentHashMap<UUID, CompletableFuture<Void>> senderTails = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<ChatLine> outbound = new ConcurrentLinkedQueue<>();
+    private Task flushTask;
+
+    public ChatPipeline(RadiumClient radiumClient, ChatManager chatManager, ChatRateLimiter rateLimiter,
+                        ChatFilter filter, NetworkChatBus networkBus) {
+        this.radiumClient = radiumClient;
+        this.chatManager = chatManager;
+        this.rateLimiter = rateLimiter;
+        this.filter = filter;
+        this.networkBus = networkBus;
+    }
+
+    public void start() {
+        flushTask = MinecraftServer.getSchedulerManager()
+                .buildTask(this::flush)
+                .repeat(TaskSchedule.nextTick())
+                .schedule();
+    }
+
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+    }
+
+    /**
+     * Filter a message and queue it for formatting behind the sender's earlier messages
+     */
+    public void submit(Player sender, String rawMessage) {
+        String message = filter.filter(rawMessage);
+        if (message.isEmpty()) {
+            return; // Nothing left after stripping formatting codes
+        }
+
+        UUID senderId = sender.getUuid();
+        // Chain on completion rather than success, so one failed message doesn't drop the ones behind it
+        CompletableFuture<Void> tail = senderTails.compute(senderId, (key, previous) ->
+                (previous != null ? previous.handle((ignored, throwable) -> null) : CompletableFuture.completedFuture(null))
+                        .thenCompose(ignored -> format(sender, message))
+                        .thenAccept(line -> outbound.add(new ChatLine(sender, line))));
+
+        // Drop the chain once it has drained so idle senders hold no state
+        tail.whenComplete((ignored, throwable) -> senderTails.remove(senderId, tail));
+    }
+
+    private CompletableFuture<Component> format(Player sender, String message) {
+        CompletableFuture<Component> formatted;
+        try {
+            formatted = radiumClient.formatChatMessage(sender.getUuid(), sender.getUsername(), message);
+        } catch (RuntimeException e) {
+            formatted = CompletableFuture.failedFuture(e);
+        }
+        return formatted.exceptionally(throwable -> {
+            // Fallback if Radium formatting fails
+            System.err.println("Error formatting chat message with Radium: " + throwable.getMessage());
+            return Component.text(sender.getUsername() + ": " + message).color(NamedTextColor.WHITE);
+        });
+    }
+
+    /**
+     * Broadcast every line formatted since the last tick, in queue order, then exchange lines with
+     * the other hubs. Runs on the tick thread.
+     */
+    private void flush() {
+        ChatLine line;
+        while ((line = outbound.poll()) != null) {
+            rateLimiter.recordDeliveries(chatManager.broadcastChat(line.sender, line.message));
+            if (networkBus != null) {
+                networkBus.relay(line.sender.getUuid(), line.message);
+            }
+        }
+
+        if (networkBus != null) {
+            networkBus.flush();
+        }
+    }
+
+    public int getPendingSenders() {
+        return senderTails.size();
+    }
+
+    private static class ChatLine {
+        private final Player sender;
+        private final Component message;
+
+        private ChatLine(Player sender, Component message) {
+            this.sender = sender;
+            this.message = message;
+        }
+    }
+}
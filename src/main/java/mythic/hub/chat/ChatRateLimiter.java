@@ -0,0 +1,199 @@
+package mythic.hub.chat;
+
+import mythic.hub.managers.RelationshipCache;
+import net.minestom.server.entity.Player;
+import net.minestom.server.tag.Tag;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player token bucket plus a global slow mode that switches itself on when chat gets busy.
+ *
+ * Every player chatting is given an int slot. Their bucket lives in one long of an
+ * {@link AtomicLongArray} (milli-tokens in the high half, last refill time in the low half)
+ * and is updated with a compare-and-set loop, so checking a message never takes a lock.
+ *
+ * Slow mode is evaluated once per second from the message rate and the number of chat
+ * deliveries (messages x recipients). It turns on above the thresholds and only turns
+ * off after the load stays below half of them for several seconds. Staff can also force slow
+ * mode on for the whole network through the {@link ChatStateStore}. Staff bypass both limits.
+ */
+public class ChatRateLimiter {
+    private static final int MAX_SLOTS = Integer.getInteger("chat.rate.slots", 4096);
+    private static final long BURST_MILLI_TOKENS = 4_000; // 4 messages
+    private static final long REFILL_MILLI_TOKENS_PER_SECOND = 700; // ~1 message every 1.4 seconds
+    private static final long MESSAGE_COST = 1_000;
+
+    private static final long SLOW_MODE_INTERVAL_MS = 3_000;
+    private static final int SLOW_MODE_MESSAGES_PER_SECOND = 15;
+    private static final int SLOW_MODE_DELIVERIES_PER_SECOND = 5_000;
+    private static final int SLOW_MODE_COOLDOWN_SECONDS = 10;
+
+    private static final Tag<Integer> SLOT_TAG = Tag.Integer("mythic:chat_slot").defaultValue(-1);
+
+    private final RelationshipCache relationships;
+    private final long epochMillis = System.currentTimeMillis();
+
+    private final AtomicLongArray buckets = new AtomicLongArray(MAX_SLOTS);
+    private final AtomicLongArray lastMessageAt = new AtomicLongArray(MAX_SLOTS);
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Integer> freeSlots = new ConcurrentLinkedQueue<>();
+
+    // Load counters for the current second, folded into the governor once per second
+    private final LongAdder messagesThisSecond = new LongAdder();
+    private final LongAdder deliveriesThisSecond = new LongAdder();
+    private final LongAdder rateLimitedTotal = new LongAdder();
+    private final AtomicLong lastMessagesPerSecond = new AtomicLong();
+    private final AtomicLong lastDeliveriesPerSecond = new AtomicLong();
+    private volatile boolean slowMode;
+    private volatile boolean forcedSlowMode;
+    private int quietSeconds;
+
+    public ChatRateLimiter(RelationshipCache relationships) {
+        this.relationships = relationships;
+    }
+
+    public enum Result {
+        ALLOWED,
+        RATE_LIMITED,
+        SLOW_MODE
+    }
+
+    /**
+     * Try to spend one message from the player's bucket
+     */
+    public Result tryAcquire(Player player) {
+        if (relationships.isStaff(player.getUuid())) {
+            messagesThisSecond.increment();
+            return Result.ALLOWED;
+        }
+
+        int slot = slotOf(player);
+        if (slot < 0) {
+            return Result.ALLOWED; // Out of slots; never block chat because of the limiter itself
+        }
+
+        long now = System.currentTimeMillis() - epochMillis;
+
+        if (isSlowMode() && now - lastMessageAt.get(slot) < SLOW_MODE_INTERVAL_MS) {
+            rateLimitedTotal.increment();
+            return Result.SLOW_MODE;
+        }
+
+        while (true) {
+            long current = buckets.get(slot);
+            long tokens = current >>> 32;
+            long refilledAt = current & 0xFFFFFFFFL;
+
+            long refill = ((now - refilledAt) & 0xFFFFFFFFL) * REFILL_MILLI_TOKENS_PER_SECOND / 1000;
+            tokens = Math.min(BURST_MILLI_TOKENS, tokens + refill);
+            if (tokens < MESSAGE_COST) {
+                rateLimitedTotal.increment();
+                return Result.RATE_LIMITED;
+            }
+
+            long updated = ((tokens - MESSAGE_COST) << 32) | (now & 0xFFFFFFFFL);
+            if (buckets.compareAndSet(slot, current, updated)) {
+                lastMessageAt.set(slot, now);
+                messagesThisSecond.increment();
+                return Result.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * Record how many players a published chat line was delivered to
+     */
+    public void recordDeliveries(int recipients) {
+        deliveriesThisSecond.add(recipients);
+    }
+
+    /**
+     * Fold the last second's load into the slow mode decision. Called once per second.
+     */
+    public void evaluateSlowMode() {
+        long messages = messagesThisSecond.sumThenReset();
+        long deliveries = deliveriesThisSecond.sumThenReset();
+        lastMessagesPerSecond.set(messages);
+        lastDeliveriesPerSecond.set(deliveries);
+
+        boolean overloaded = messages > SLOW_MODE_MESSAGES_PER_SECOND || deliveries > SLOW_MODE_DELIVERIES_PER_SECOND;
+        boolean quiet = messages <= SLOW_MODE_MESSAGES_PER_SECOND / 2 && deliveries <= SLOW_MODE_DELIVERIES_PER_SECOND / 2;
+
+        if (overloaded) {
+            quietSeconds = 0;
+            if (!slowMode) {
+                slowMode = true;
+                System.out.println("[ChatRateLimiter] Slow mode enabled (" + messages + " msg/s, " + deliveries + " deliveries/s)");
+            }
+        } else if (slowMode && quiet && ++quietSeconds >= SLOW_MODE_COOLDOWN_SECONDS) {
+            slowMode = false;
+            quietSeconds = 0;
+            System.out.println("[ChatRateLimiter] Slow mode disabled");
+        }
+    }
+
+    /**
+     * Return the player's slot to the pool when they leave
+     */
+    public void release(Player player) {
+        int slot = player.getTag(SLOT_TAG);
+        if (slot >= 0) {
+            player.removeTag(SLOT_TAG);
+            buckets.set(slot, 0);
+            lastMessageAt.set(slot, 0);
+            freeSlots.add(slot);
+        }
+    }
+
+    private int slotOf(Player player) {
+        int slot = player.getTag(SLOT_TAG);
+        if (slot >= 0) {
+            return slot;
+        }
+
+        Integer free = freeSlots.poll();
+        slot = free != null ? free : nextSlot.getAndIncrement();
+        if (slot >= MAX_SLOTS) {
+            return -1;
+        }
+
+        // New buckets start full
+        long now = System.currentTimeMillis() - epochMillis;
+        buckets.set(slot, (BURST_MILLI_TOKENS << 32) | (now & 0xFFFFFFFFL));
+        lastMessageAt.set(slot, now - SLOW_MODE_INTERVAL_MS);
+        player.setTag(SLOT_TAG, slot);
+        return slot;
+    }
+
+    /**
+     * Slow mode set by staff, independent of the load-based governor
+     */
+    public void setForcedSlowMode(boolean forced) {
+        forcedSlowMode = forced;
+    }
+
+    public boolean isForcedSlowMode() {
+        return forcedSlowMode;
+    }
+
+    public boolean isSlowMode() {
+        return slowMode || forcedSlowMode;
+    }
+
+    public long getMessagesPerSecond() {
+        return lastMessagesPerSecond.get();
+    }
+
+    public long getDeliveriesPerSecond() {
+        return lastDeliveriesPerSecond.get();
+    }
+
+    public long getRateLimitedTotal() {
+        return rateLimitedTotal.sum();
+    }
+}
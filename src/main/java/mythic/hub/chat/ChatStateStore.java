@@ -0,0 +1,143 @@
+package mythic.hub.chat;
+
+import mythic.hub.database.RedisManager;
+import mythic.hub.messaging.HubMessage;
+import mythic.hub.messaging.MessageCodec;
+import mythic.hub.messaging.MessageEnvelope;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+/**
+ * Chat controls (lock, forced slow mode, filter version) shared by every hub.
+ *
+ * The authoritative copy is a Redis hash with a version field that is bumped atomically on
+ * every write. The writing hub publishes the resulting state and every hub keeps the highest
+ * version it has seen in a volatile field, so chat checks are a plain memory read. The hash
+ * is re-read on startup and periodically, which also covers notifications missed while the
+ * pub/sub connection was down.
+ */
+public class ChatStateStore {
+    private static final String KEY = "mythic:chat:state";
+    private static final String CHANNEL = "mythic:chat:state";
+
+    private final RedisManager redisManager;
+    private final MessageCodec codec;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-state");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<BiConsumer<HubMessage.ChatState, HubMessage.ChatState>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile HubMessage.ChatState state = HubMessage.ChatState.INITIAL;
+
+    public ChatStateStore(RedisManager redisManager, MessageCodec codec) {
+        this.redisManager = redisManager;
+        this.codec = codec;
+
+        redisManager.subscribe(CHANNEL, (channel, message) -> {
+            if (CHANNEL.equals(channel)) {
+                handleUpdate(message);
+            }
+        });
+    }
+
+    /**
+     * Latest known state; never blocks
+     */
+    public HubMessage.ChatState current() {
+        return state;
+    }
+
+    /**
+     * Called with (previous, current) whenever a newer state is applied
+     */
+    public void addListener(BiConsumer<HubMessage.ChatState, HubMessage.ChatState> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Re-read the state from Redis; safe to call periodically
+     */
+    public void refresh() {
+        executor.execute(() -> {
+            try {
+                apply(MessageCodec.chatState(redisManager.hgetall(KEY)));
+            } catch (Exception e) {
+                System.err.println("[ChatStateStore] Failed to load chat state: " + e.getMessage());
+            }
+        });
+    }
+
+    public CompletableFuture<HubMessage.ChatState> setLocked(boolean locked, String changedBy) {
+        return update(Map.of("locked", String.valueOf(locked), "lockChangedBy", changedBy));
+    }
+
+    public CompletableFuture<HubMessage.ChatState> setSlowMode(boolean slowMode) {
+        return update(Map.of("slowMode", String.valueOf(slowMode)));
+    }
+
+    /**
+     * Ask every hub to reload its chat filter
+     */
+    public CompletableFuture<HubMessage.ChatState> bumpFilterVersion() {
+        // Incremented in Redis, so concurrent reloads on two hubs each produce a new version
+        return CompletableFuture.supplyAsync(() -> write(Map.of(), List.of("filterVersion")), executor);
+    }
+
+    private CompletableFuture<HubMessage.ChatState> update(Map<String, String> fields) {
+        return CompletableFuture.supplyAsync(() -> write(fields, List.of()), executor);
+    }
+
+    // Runs on the executor: write to Redis, apply locally, then tell the other hubs
+    private HubMessage.ChatState write(Map<String, String> fields, List<String> increments) {
+        HubMessage.ChatState updated = MessageCodec.chatState(redisManager.hsetVersioned(KEY, fields, increments));
+        apply(updated);
+        try {
+            redisManager.publish(CHANNEL, codec.encode(updated));
+        } catch (Exception e) {
+            // Other hubs will still pick the change up on their next refresh
+            System.err.println("[ChatStateStore] Failed to publish chat state: " + e.getMessage());
+        }
+        return updated;
+    }
+
+    private void handleUpdate(String json) {
+        try {
+            MessageEnvelope envelope = codec.decode(json);
+            if (envelope.payload() instanceof HubMessage.ChatState update) {
+                apply(update);
+            }
+        } catch (Exception e) {
+            System.err.println("[ChatStateStore] Failed to decode chat state: " + e.getMessage());
+        }
+    }
+
+    // Synchronized so listeners see updates one at a time and in version order
+    private synchronized void apply(HubMessage.ChatState update) {
+        HubMessage.ChatState previous = state;
+        if (update.version() <= previous.version()) {
+            return; // Stale or already applied
+        }
+        state = update;
+
+        for (BiConsumer<HubMessage.ChatState, HubMessage.ChatState> listener : listeners) {
+            try {
+                listener.accept(previous, update);
+            } catch (Exception e) {
+                System.err.println("[ChatStateStore] Listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public void shutdown() {
+        redisManager.unsubscribe(CHANNEL);
+        executor.shutdown();
+    }
+}
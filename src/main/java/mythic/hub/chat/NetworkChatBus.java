@@ -0,0 +1,135 @@
+package mythic.hub.chat;
+
+import mythic.hub.database.RedisManager;
+import mythic.hub.managers.ChatManager;
+import mythic.hub.messaging.HubMessage;
+import mythic.hub.messaging.MessageCodec;
+import mythic.hub.messaging.MessageEnvelope;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Network chat scope: relays chat lines between hubs over Redis.
+ *
+ * Lines formatted on this hub are collected during a tick and published together as a
+ * single {@link HubMessage.ChatBatch}, so the number of publishes grows with the number of
+ * hubs rather than the number of messages. Receiving hubs broadcast the pre-rendered
+ * components as-is without formatting them again. Every line carries a message ID and
+ * recently seen IDs are remembered, so a line delivered twice is only shown once.
+ *
+ * Enabled with {@code -Dchat.network=true}.
+ */
+public class NetworkChatBus {
+    private static final String CHANNEL = "mythic:chat:network";
+    private static final int SEEN_IDS = 4096;
+
+    private final RedisManager redisManager;
+    private final MessageCodec codec;
+    private final ChatManager chatManager;
+    private final ChatRateLimiter rateLimiter;
+    private final ExecutorService publishExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-network-publish");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<HubMessage.ChatLine> outbound = new ArrayList<>();
+    private final ConcurrentLinkedQueue<HubMessage.ChatLine> inbound = new ConcurrentLinkedQueue<>();
+    private final Map<String, Boolean> seenIds = new LinkedHashMap<>(SEEN_IDS, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > SEEN_IDS;
+        }
+    };
+
+    public NetworkChatBus(RedisManager redisManager, MessageCodec codec, ChatManager chatManager, ChatRateLimiter rateLimiter) {
+        this.redisManager = redisManager;
+        this.codec = codec;
+        this.chatManager = chatManager;
+        this.rateLimiter = rateLimiter;
+
+        redisManager.subscribe(CHANNEL, (channel, message) -> {
+            if (CHANNEL.equals(channel)) {
+                handleBatch(message);
+            }
+        });
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("chat.network");
+    }
+
+    /**
+     * Queue a line that was just broadcast locally for the next network publish. Tick thread only.
+     */
+    public void relay(UUID sender, Component message) {
+        String id = codec.getSource() + ":" + UUID.randomUUID();
+        outbound.add(new HubMessage.ChatLine(id, sender, GsonComponentSerializer.gson().serialize(message)));
+    }
+
+    /**
+     * Publish this tick's lines and broadcast lines received from other hubs. Tick thread only.
+     */
+    public void flush() {
+        if (!outbound.isEmpty()) {
+            HubMessage.ChatBatch batch = new HubMessage.ChatBatch(List.copyOf(outbound));
+            outbound.clear();
+            publishExecutor.execute(() -> publish(batch));
+        }
+
+        HubMessage.ChatLine line;
+        while ((line = inbound.poll()) != null) {
+            Component message;
+            try {
+                message = GsonComponentSerializer.gson().deserialize(line.component());
+            } catch (Exception e) {
+                System.err.println("[NetworkChatBus] Dropping malformed chat line " + line.id() + ": " + e.getMessage());
+                continue;
+            }
+            rateLimiter.recordDeliveries(chatManager.broadcastRemoteChat(line.sender(), message));
+        }
+    }
+
+    private void publish(HubMessage.ChatBatch batch) {
+        try {
+            redisManager.publish(CHANNEL, codec.encode(batch));
+        } catch (Exception e) {
+            System.err.println("[NetworkChatBus] Failed to publish " + batch.lines().size() + " chat lines: " + e.getMessage());
+        }
+    }
+
+    // Runs on the Redis listener thread; lines are handed to the tick thread through the inbound queue
+    private void handleBatch(String json) {
+        try {
+            MessageEnvelope envelope = codec.decode(json);
+            if (codec.getSource().equals(envelope.source())
+                    || !(envelope.payload() instanceof HubMessage.ChatBatch batch)) {
+                return; // Our own lines were already broadcast locally
+            }
+
+            synchronized (seenIds) {
+                for (HubMessage.ChatLine line : batch.lines()) {
+                    if (seenIds.put(line.id(), Boolean.TRUE) == null) {
+                        inbound.add(line);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("[NetworkChatBus] Failed to decode chat batch: " + e.getMessage());
+        }
+    }
+
+    public void shutdown() {
+        redisManager.unsubscribe(CHANNEL);
+        publishExecutor.shutdown();
+    }
+}
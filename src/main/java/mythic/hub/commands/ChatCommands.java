@@ -26,6 +26,14 @@ public class ChatCommands extends Command {
         addSubcommand(new Command("status") {{
             setDefaultExecutor(ChatCommands.this::chatStatus);
         }});
+        
+        addSubcommand(new Command("reloadfilter") {{
+            setDefaultExecutor(ChatCommands.this::reloadFilter);
+        }});
+        
+        addSubcommand(new Command("slowmode") {{
+            setDefaultExecutor(ChatCommands.this::toggleSlowMode);
+        }});
     }
     
     private void usage(CommandSender sender, CommandContext context) {
@@ -33,6 +41,8 @@ public class ChatCommands extends Command {
         sender.sendMessage(Component.text("/chatlock lock - Lock the chat").color(NamedTextColor.GRAY));
         sender.sendMessage(Component.text("/chatlock unlock - Unlock the chat").color(NamedTextColor.GRAY));
         sender.sendMessage(Component.text("/chatlock status - Check chat status").color(NamedTextColor.GRAY));
+        sender.sendMessage(Component.text("/chatlock reloadfilter - Reload the chat blocklist on all hubs").color(NamedTextColor.GRAY));
+        sender.sendMessage(Component.text("/chatlock slowmode - Toggle slow mode on all hubs").color(NamedTextColor.GRAY));
     }
     
     private void lockChat(CommandSender sender, CommandContext context) {
@@ -91,6 +101,46 @@ public class ChatCommands extends Command {
                 .color(locked ? NamedTextColor.RED : NamedTextColor.GREEN));
         
         player.sendMessage(status);
+        
+        boolean slowMode = MythicHubServer.getInstance().getChatRateLimiter().isSlowMode();
+        player.sendMessage(Component.text("Slow Mode: ")
+            .color(NamedTextColor.YELLOW)
+            .append(Component.text(slowMode ? "ON" : "OFF")
+                .color(slowMode ? NamedTextColor.RED : NamedTextColor.GREEN)));
+    }
+    
+    private void reloadFilter(CommandSender sender, CommandContext context) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(Component.text("Only players can use this command!").color(NamedTextColor.RED));
+            return;
+        }
+        
+        if (!isPlayerStaff(player)) {
+            player.sendMessage(Component.text("You don't have permission to use this command!").color(NamedTextColor.RED));
+            return;
+        }
+        
+        // Every hub reloads when it sees the new filter version; chat keeps the old list until then
+        MythicHubServer.getInstance().getChatStateStore().bumpFilterVersion().thenAccept(state ->
+                player.sendMessage(Component.text("Chat filter reload requested on all hubs.")
+                        .color(NamedTextColor.GREEN)));
+    }
+    
+    private void toggleSlowMode(CommandSender sender, CommandContext context) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(Component.text("Only players can use this command!").color(NamedTextColor.RED));
+            return;
+        }
+        
+        if (!isPlayerStaff(player)) {
+            player.sendMessage(Component.text("You don't have permission to use this command!").color(NamedTextColor.RED));
+            return;
+        }
+        
+        boolean enable = !MythicHubServer.getInstance().getChatStateStore().current().slowMode();
+        MythicHubServer.getInstance().getChatStateStore().setSlowMode(enable).thenAccept(state ->
+                player.sendMessage(Component.text("Slow mode " + (state.slowMode() ? "enabled" : "disabled") + " on all hubs.")
+                        .color(NamedTextColor.GREEN)));
     }
     
     private boolean isPlayerStaff(Player player) {
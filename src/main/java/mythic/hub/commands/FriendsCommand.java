@@ -1,6 +1,7 @@
 package mythic.hub.commands;
 
 import mythic.hub.MythicHubServer;
+import mythic.hub.database.RedisRpcClient;
 import mythic.hub.integrations.radium.RadiumClient;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
@@ -254,8 +255,8 @@ public class FriendsCommand extends Command {
         player.sendMessage(Component.text("Sending friend request to " + targetUsername + "...")
                 .color(YELLOW));
 
-        radiumClient.sendFriendRequest(player.getUsername(), targetUsername).thenAccept(success -> {
-            if (success) {
+        radiumClient.sendFriendRequest(player.getUsername(), targetUsername).thenAccept(response -> {
+            if (response.isSuccess()) {
                 player.sendMessage(Component.text("Friend request sent to ")
                         .color(GREEN)
                         .append(Component.text(targetUsername)
@@ -263,8 +264,7 @@ public class FriendsCommand extends Command {
                         .append(Component.text("!")
                                 .color(GREEN)));
             } else {
-                player.sendMessage(Component.text("Failed to send friend request. Please check the username and try again.")
-                        .color(RED));
+                sendFailure(player, response, "Failed to send friend request. Please check the username and try again.");
             }
         }).exceptionally(throwable -> {
             player.sendMessage(Component.text("An error occurred while sending the friend request.")
@@ -284,8 +284,8 @@ public class FriendsCommand extends Command {
         player.sendMessage(Component.text("Removing friend " + targetUsername + "...")
                 .color(YELLOW));
 
-        radiumClient.removeFriend(player.getUsername(), targetUsername).thenAccept(success -> {
-            if (success) {
+        radiumClient.removeFriend(player.getUsername(), targetUsername).thenAccept(response -> {
+            if (response.isSuccess()) {
                 player.sendMessage(Component.text("Successfully removed ")
                         .color(GREEN)
                         .append(Component.text(targetUsername)
@@ -293,8 +293,7 @@ public class FriendsCommand extends Command {
                         .append(Component.text(" from your friends list.")
                                 .color(GREEN)));
             } else {
-                player.sendMessage(Component.text("Failed to remove friend. Please check the username and try again.")
-                        .color(RED));
+                sendFailure(player, response, "Failed to remove friend. Please check the username and try again.");
             }
         }).exceptionally(throwable -> {
             player.sendMessage(Component.text("An error occurred while removing the friend.")
@@ -314,8 +313,8 @@ public class FriendsCommand extends Command {
         player.sendMessage(Component.text("Denying friend request from " + targetUsername + "...")
                 .color(YELLOW));
 
-        radiumClient.denyFriendRequest(player.getUsername(), targetUsername).thenAccept(success -> {
-            if (success) {
+        radiumClient.denyFriendRequest(player.getUsername(), targetUsername).thenAccept(response -> {
+            if (response.isSuccess()) {
                 player.sendMessage(Component.text("Successfully denied friend request from ")
                         .color(GREEN)
                         .append(Component.text(targetUsername)
@@ -323,8 +322,7 @@ public class FriendsCommand extends Command {
                         .append(Component.text(".")
                                 .color(GREEN)));
             } else {
-                player.sendMessage(Component.text("Failed to deny friend request. Please check the username and try again.")
-                        .color(RED));
+                sendFailure(player, response, "Failed to deny friend request. Please check the username and try again.");
             }
         }).exceptionally(throwable -> {
             player.sendMessage(Component.text("An error occurred while denying the friend request.")
@@ -365,6 +363,17 @@ public class FriendsCommand extends Command {
                 .color(LIGHT_PINK));
     }
 
+    // Helper method to explain why a forwarded friend command did not succeed
+    private void sendFailure(Player player, RedisRpcClient.Response response, String fallback) {
+        if (response.isTimedOut()) {
+            player.sendMessage(Component.text("Radium did not respond in time. Please try again.")
+                    .color(RED));
+        } else {
+            player.sendMessage(Component.text(response.getMessage() != null ? response.getMessage() : fallback)
+                    .color(RED));
+        }
+    }
+
     // Helper method to find a player by UUID
     private Player getPlayerByUuid(UUID uuid) {
         for (Player onlinePlayer : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
@@ -0,0 +1,48 @@
+package mythic.hub.commands;
+
+import mythic.hub.MythicHubServer;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
+
+/**
+ * /ignore <player> - toggle hiding another player's chat messages
+ */
+public class IgnoreCommand extends Command {
+
+    public IgnoreCommand() {
+        super("ignore");
+
+        var playerArg = ArgumentType.Entity("player").singleEntity(true).onlyPlayers(true);
+
+        setDefaultExecutor((sender, context) ->
+                sender.sendMessage(Component.text("Usage: /ignore <player>").color(NamedTextColor.RED)));
+
+        addSyntax((sender, context) -> {
+            if (!(sender instanceof Player player)) {
+                sender.sendMessage(Component.text("Only players can use this command!").color(NamedTextColor.RED));
+                return;
+            }
+
+            Player target = (Player) context.get(playerArg).findFirstPlayer(sender);
+            if (target == null) {
+                player.sendMessage(Component.text("Player not found!").color(NamedTextColor.RED));
+                return;
+            }
+
+            if (target.equals(player)) {
+                player.sendMessage(Component.text("You can't ignore yourself!").color(NamedTextColor.RED));
+                return;
+            }
+
+            boolean ignored = MythicHubServer.getInstance().getChatManager().toggleIgnore(player, target);
+            if (ignored) {
+                player.sendMessage(Component.text("You are now ignoring " + target.getUsername() + ".").color(NamedTextColor.YELLOW));
+            } else {
+                player.sendMessage(Component.text("You are no longer ignoring " + target.getUsername() + ".").color(NamedTextColor.GREEN));
+            }
+        }, playerArg);
+    }
+}
@@ -152,8 +152,8 @@ public class RankCommand extends Command {
             sender.sendMessage(Component.text("Set " + target.getUsername() + "'s rank to " + rankName).color(NamedTextColor.GREEN));
             target.sendMessage(Component.text("Your rank has been set to " + rankName).color(NamedTextColor.GREEN));
             
-            // Update tablist for all players
-            MythicHubServer.getInstance().getTabListManager().updateAllTabLists();
+            // Re-broadcast the target's tab entry if their rank rendering changed
+            MythicHubServer.getInstance().getTabListManager().refreshDisplayName(target);
             
         } catch (Exception e) {
             sender.sendMessage(Component.text("Error setting rank: " + e.getMessage()).color(NamedTextColor.RED));
@@ -176,7 +176,7 @@ public class RankCommand extends Command {
             sender.sendMessage(Component.text("Added rank " + rankName + " to " + target.getUsername()).color(NamedTextColor.GREEN));
             target.sendMessage(Component.text("You have been granted the " + rankName + " rank").color(NamedTextColor.GREEN));
             
-            MythicHubServer.getInstance().getTabListManager().updateAllTabLists();
+            MythicHubServer.getInstance().getTabListManager().refreshDisplayName(target);
             
         } catch (Exception e) {
             sender.sendMessage(Component.text("Error adding rank: " + e.getMessage()).color(NamedTextColor.RED));
@@ -191,7 +191,7 @@ public class RankCommand extends Command {
             sender.sendMessage(Component.text("Removed rank " + rankName + " from " + target.getUsername()).color(NamedTextColor.GREEN));
             target.sendMessage(Component.text("The " + rankName + " rank has been removed").color(NamedTextColor.YELLOW));
             
-            MythicHubServer.getInstance().getTabListManager().updateAllTabLists();
+            MythicHubServer.getInstance().getTabListManager().refreshDisplayName(target);
             
         } catch (Exception e) {
             sender.sendMessage(Component.text("Error removing rank: " + e.getMessage()).color(NamedTextColor.RED));
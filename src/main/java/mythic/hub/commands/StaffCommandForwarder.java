@@ -56,14 +56,18 @@ public class StaffCommandForwarder extends Command {
             fullCommand += " " + String.join(" ", args);
         }
         
-        // Forward the command to Radium
-        radiumClient.forwardCommandToProxy(player.getUsername(), fullCommand)
-                .thenAccept(success -> {
-                    if (success) {
-                        player.sendMessage(Component.text("Command forwarded to Radium proxy...")
-                                .color(NamedTextColor.GRAY));
+        // Forward the command to Radium and report what the proxy actually did
+        radiumClient.executeCommandOnProxy(player.getUsername(), fullCommand)
+                .thenAccept(response -> {
+                    if (response.isSuccess()) {
+                        String message = response.getMessage() != null ? response.getMessage() : "Command executed by Radium proxy.";
+                        player.sendMessage(Component.text(message).color(NamedTextColor.GREEN));
+                    } else if (response.isTimedOut()) {
+                        player.sendMessage(Component.text("Radium proxy did not respond in time. The command may not have run.")
+                                .color(NamedTextColor.RED));
                     } else {
-                        player.sendMessage(Component.text("Failed to forward command to Radium!")
+                        String reason = response.getMessage() != null ? response.getMessage() : "Unknown error";
+                        player.sendMessage(Component.text("Radium rejected the command: " + reason)
                                 .color(NamedTextColor.RED));
                     }
                 });
@@ -1,7 +1,9 @@
 package mythic.hub.database;
 
+import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
@@ -9,6 +11,8 @@ import io.lettuce.core.pubsub.RedisPubSubListener;
 import mythic.hub.config.DatabaseConfig;
 import mythic.hub.data.PlayerProfile;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +26,14 @@ public class RedisManager {
     private final RedisCommands<String, String> syncCommands;
     private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
 
+    // ARGV: count of fields to increment, those field names, then field/value pairs to set
+    private static final String HSET_VERSIONED_SCRIPT =
+            "redis.call('HINCRBY', KEYS[1], 'version', 1) " +
+            "local increments = tonumber(ARGV[1]) " +
+            "for i = 2, increments + 1 do redis.call('HINCRBY', KEYS[1], ARGV[i], 1) end " +
+            "if #ARGV > increments + 1 then redis.call('HSET', KEYS[1], unpack(ARGV, increments + 2)) end " +
+            "return redis.call('HGETALL', KEYS[1])";
+
     public RedisManager(DatabaseConfig config) {
         RedisURI redisUri = RedisURI.Builder
                 .redis(config.getRedisHost(), config.getRedisPort())
@@ -100,6 +112,21 @@ public class RedisManager {
         return syncCommands.get(key);
     }
 
+    /**
+     * Get several keys in one round trip
+     * @return values in key order, null for missing keys
+     */
+    public List<String> mget(String... keys) {
+        if (keys.length == 0) {
+            return List.of();
+        }
+        List<String> values = new ArrayList<>(keys.length);
+        for (KeyValue<String, String> entry : syncCommands.mget(keys)) {
+            values.add(entry.hasValue() ? entry.getValue() : null);
+        }
+        return values;
+    }
+
     public void set(String key, String value) {
         syncCommands.set(key, value);
     }
@@ -113,10 +140,47 @@ public class RedisManager {
         syncCommands.hset(key, field, value);
     }
 
+    public void hset(String key, Map<String, String> fields) {
+        syncCommands.hset(key, fields);
+    }
+
     public String hget(String key, String field) {
         return syncCommands.hget(key, field);
     }
 
+    /**
+     * Set hash fields and increment the hash's "version" field in one atomic step
+     * @return all fields of the hash after the update
+     */
+    public Map<String, String> hsetVersioned(String key, Map<String, String> fields) {
+        return hsetVersioned(key, fields, List.of());
+    }
+
+    /**
+     * Set hash fields, increment the given counter fields by one and increment the hash's
+     * "version" field, all in one atomic step
+     * @return all fields of the hash after the update
+     */
+    public Map<String, String> hsetVersioned(String key, Map<String, String> fields, List<String> increments) {
+        String[] args = new String[1 + increments.size() + fields.size() * 2];
+        int i = 0;
+        args[i++] = String.valueOf(increments.size());
+        for (String increment : increments) {
+            args[i++] = increment;
+        }
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+
+        List<Object> flat = syncCommands.eval(HSET_VERSIONED_SCRIPT, ScriptOutputType.MULTI, new String[]{key}, args);
+        Map<String, String> result = new HashMap<>();
+        for (int j = 0; j + 1 < flat.size(); j += 2) {
+            result.put(String.valueOf(flat.get(j)), String.valueOf(flat.get(j + 1)));
+        }
+        return result;
+    }
+
     public void sadd(String key, String... members) {
         syncCommands.sadd(key, members);
     }
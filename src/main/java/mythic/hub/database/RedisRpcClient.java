@@ -0,0 +1,306 @@
+package mythic.hub.database;
+
+import mythic.hub.messaging.HubMessage;
+import mythic.hub.messaging.MessageCodec;
+import mythic.hub.messaging.MessageEnvelope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Request/response layer on top of Redis pub/sub.
+ * Every request carries a correlation ID and this hub's reply channel; the responder
+ * publishes its answer to that channel and the matching future is completed.
+ */
+public class RedisRpcClient {
+    private static final String REPLY_CHANNEL_PREFIX = "radium:rpc:reply:";
+    private static final long DEFAULT_TIMEOUT_MS = 5000;
+    private static final long BATCH_WINDOW_MS = 25;
+
+    private final RedisManager redisManager;
+    private final MessageCodec codec;
+    private final String replyChannel;
+    private final ScheduledExecutorService executor;
+
+    // Requests waiting for a reply, keyed by correlation ID
+    private final ConcurrentHashMap<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    // Requests waiting to be flushed as one batch message, keyed by target channel
+    private final ConcurrentHashMap<String, BatchQueue> batchQueues = new ConcurrentHashMap<>();
+
+    // Round-trip statistics
+    private final LongAdder sentRequests = new LongAdder();
+    private final LongAdder completedRequests = new LongAdder();
+    private final LongAdder timedOutRequests = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile long lastLatencyNanos;
+
+    public RedisRpcClient(RedisManager redisManager, MessageCodec codec) {
+        this.redisManager = redisManager;
+        this.codec = codec;
+        this.replyChannel = REPLY_CHANNEL_PREFIX + codec.getSource();
+        this.executor = Executors.newSingleThreadScheduledExecutor();
+
+        redisManager.subscribe(replyChannel, (channel, message) -> {
+            if (replyChannel.equals(channel)) {
+                handleReply(message);
+            }
+        });
+    }
+
+    /**
+     * Send a request and wait for its reply using the default timeout
+     */
+    public CompletableFuture<Response> request(String channel, HubMessage message) {
+        return request(channel, message, DEFAULT_TIMEOUT_MS, false);
+    }
+
+    /**
+     * Send a request that may be coalesced with other requests to the same channel
+     * into a single pub/sub message
+     */
+    public CompletableFuture<Response> requestBatched(String channel, HubMessage message) {
+        return request(channel, message, DEFAULT_TIMEOUT_MS, true);
+    }
+
+    /**
+     * Send a request and complete the returned future with the reply, or with a
+     * timed out response if nothing arrives within the timeout
+     */
+    public CompletableFuture<Response> request(String channel, HubMessage message, long timeoutMillis, boolean batched) {
+        String requestId = UUID.randomUUID().toString();
+
+        PendingRequest pending = new PendingRequest(System.nanoTime());
+        pendingRequests.put(requestId, pending);
+        pending.timeoutTask = executor.schedule(() -> {
+            if (pendingRequests.remove(requestId, pending)) {
+                timedOutRequests.increment();
+                pending.future.complete(Response.timedOut(requestId));
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        sentRequests.increment();
+
+        if (batched) {
+            enqueueBatched(channel, new OutboundRequest(requestId, message));
+        } else {
+            executor.execute(() -> publish(channel, () -> codec.encodeRequest(message, requestId, replyChannel), List.of(requestId)));
+        }
+
+        return pending.future;
+    }
+
+    private void enqueueBatched(String channel, OutboundRequest request) {
+        BatchQueue batch = batchQueues.computeIfAbsent(channel, key -> new BatchQueue());
+        batch.queue.add(request);
+
+        // The first request in a window schedules the flush for everything that follows
+        if (batch.flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(() -> flushBatch(channel, batch), BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushBatch(String channel, BatchQueue batch) {
+        batch.flushScheduled.set(false);
+
+        List<String> requestIds = new ArrayList<>();
+        List<HubMessage> messages = new ArrayList<>();
+        OutboundRequest next;
+        while ((next = batch.queue.poll()) != null) {
+            requestIds.add(next.requestId);
+            messages.add(next.message);
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (messages.size() == 1) {
+            publish(channel, () -> codec.encodeRequest(messages.get(0), requestIds.get(0), replyChannel), requestIds);
+        } else {
+            publish(channel, () -> codec.encodeBatch(requestIds, messages, replyChannel), requestIds);
+        }
+    }
+
+    private void publish(String channel, Supplier<String> encoder, List<String> requestIds) {
+        try {
+            redisManager.publish(channel, encoder.get());
+        } catch (Exception e) {
+            System.err.println("[RedisRpcClient] Failed to publish request on " + channel + ": " + e.getMessage());
+            for (String requestId : requestIds) {
+                failRequest(requestId, "Failed to publish request: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handleReply(String message) {
+        try {
+            for (MessageEnvelope envelope : codec.decodeAll(message)) {
+                if (envelope.payload() instanceof HubMessage.RpcReply reply && envelope.requestId() != null) {
+                    completeRequest(envelope.requestId(), reply);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("[RedisRpcClient] Ignoring malformed reply: " + e.getMessage());
+        }
+    }
+
+    private void completeRequest(String requestId, HubMessage.RpcReply reply) {
+        PendingRequest pending = pendingRequests.remove(requestId);
+        if (pending == null) {
+            return; // Already timed out or not ours
+        }
+
+        if (pending.timeoutTask != null) {
+            pending.timeoutTask.cancel(false);
+        }
+
+        long latency = System.nanoTime() - pending.sentAt;
+        recordLatency(latency);
+
+        pending.future.complete(new Response(requestId, reply.success() ? Status.OK : Status.ERROR,
+                reply.message(), latency));
+    }
+
+    private void failRequest(String requestId, String reason) {
+        PendingRequest pending = pendingRequests.remove(requestId);
+        if (pending != null) {
+            if (pending.timeoutTask != null) {
+                pending.timeoutTask.cancel(false);
+            }
+            pending.future.complete(new Response(requestId, Status.ERROR, reason, 0));
+        }
+    }
+
+    private void recordLatency(long latencyNanos) {
+        completedRequests.increment();
+        totalLatencyNanos.add(latencyNanos);
+        lastLatencyNanos = latencyNanos;
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public String getReplyChannel() {
+        return replyChannel;
+    }
+
+    public long getSentCount() {
+        return sentRequests.sum();
+    }
+
+    public long getCompletedCount() {
+        return completedRequests.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutRequests.sum();
+    }
+
+    public int getPendingCount() {
+        return pendingRequests.size();
+    }
+
+    public double getAverageLatencyMillis() {
+        long completed = completedRequests.sum();
+        return completed == 0 ? 0 : totalLatencyNanos.sum() / (double) completed / 1_000_000.0;
+    }
+
+    public double getLastLatencyMillis() {
+        return lastLatencyNanos / 1_000_000.0;
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Stop listening for replies and fail everything still in flight
+     */
+    public void shutdown() {
+        try {
+            redisManager.unsubscribe(replyChannel);
+        } catch (Exception e) {
+            System.err.println("[RedisRpcClient] Error unsubscribing from reply channel: " + e.getMessage());
+        }
+
+        for (String requestId : List.copyOf(pendingRequests.keySet())) {
+            failRequest(requestId, "Shutting down");
+        }
+        executor.shutdownNow();
+    }
+
+    private static class PendingRequest {
+        private final long sentAt;
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeoutTask;
+
+        private PendingRequest(long sentAt) {
+            this.sentAt = sentAt;
+        }
+    }
+
+    private static class OutboundRequest {
+        private final String requestId;
+        private final HubMessage message;
+
+        private OutboundRequest(String requestId, HubMessage message) {
+            this.requestId = requestId;
+            this.message = message;
+        }
+    }
+
+    private static class BatchQueue {
+        private final ConcurrentLinkedQueue<OutboundRequest> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    }
+
+    public enum Status {
+        OK,
+        ERROR,
+        TIMEOUT
+    }
+
+    /**
+     * Result of a request, as reported by the responder
+     */
+    public static class Response {
+        private final String requestId;
+        private final Status status;
+        private final String message;
+        private final long latencyNanos;
+
+        public Response(String requestId, Status status, String message, long latencyNanos) {
+            this.requestId = requestId;
+            this.status = status;
+            this.message = message;
+            this.latencyNanos = latencyNanos;
+        }
+
+        static Response timedOut(String requestId) {
+            return new Response(requestId, Status.TIMEOUT, null, 0);
+        }
+
+        public String getRequestId() { return requestId; }
+        public Status getStatus() { return status; }
+        public String getMessage() { return message; }
+        public double getLatencyMillis() { return latencyNanos / 1_000_000.0; }
+
+        public boolean isSuccess() {
+            return status == Status.OK;
+        }
+
+        public boolean isTimedOut() {
+            return status == Status.TIMEOUT;
+        }
+    }
+}
@@ -3,9 +3,11 @@ package mythic.hub.debug;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import mythic.hub.MythicHubServer;
+import mythic.hub.database.RedisRpcClient;
 import mythic.hub.integrations.radium.RadiumClient;
 import mythic.hub.integrations.radium.RadiumProfile;
 import mythic.hub.integrations.radium.RadiumRank;
+import mythic.hub.metrics.TickMonitor;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.command.builder.Command;
@@ -150,6 +152,30 @@ public class RadiumDebugCommand extends Command {
                         });
                 }
                 
+                case "rpc" -> {
+                    RedisRpcClient rpcClient = MythicHubServer.getInstance().getRpcClient();
+                    player.sendMessage(Component.text("=== RPC Debug ===").color(NamedTextColor.YELLOW));
+                    player.sendMessage(Component.text("Reply channel: " + rpcClient.getReplyChannel()).color(NamedTextColor.WHITE));
+                    player.sendMessage(Component.text("Sent: " + rpcClient.getSentCount() + 
+                            ", Completed: " + rpcClient.getCompletedCount() + 
+                            ", Timed out: " + rpcClient.getTimedOutCount() + 
+                            ", Pending: " + rpcClient.getPendingCount()).color(NamedTextColor.WHITE));
+                    player.sendMessage(Component.text(String.format("Latency: last %.1fms, avg %.1fms, max %.1fms",
+                            rpcClient.getLastLatencyMillis(), rpcClient.getAverageLatencyMillis(), 
+                            rpcClient.getMaxLatencyMillis())).color(NamedTextColor.GREEN));
+                }
+                
+                case "tps" -> {
+                    TickMonitor.Snapshot snapshot = MythicHubServer.getInstance().getTickMonitor().getSnapshot();
+                    player.sendMessage(Component.text("=== Tick Debug ===").color(NamedTextColor.YELLOW));
+                    sendTickWindow(player, "1s", snapshot.lastSecond());
+                    sendTickWindow(player, "10s", snapshot.lastTenSeconds());
+                    sendTickWindow(player, "1m", snapshot.lastMinute());
+                    player.sendMessage(Component.text(String.format("Current tick overrun: %.1fms", snapshot.currentTickMillis()))
+                            .color(snapshot.currentTickMillis() > 0 ? NamedTextColor.RED : NamedTextColor.GREEN));
+                    player.sendMessage(Component.text("Total ticks: " + snapshot.totalTicks()).color(NamedTextColor.WHITE));
+                }
+                
                 default -> {
                     player.sendMessage(Component.text("=== Radium Debug Commands ===").color(NamedTextColor.YELLOW));
                     player.sendMessage(Component.text("/radiumdebug profile [uuid] - Show profile data").color(NamedTextColor.WHITE));
@@ -158,6 +184,8 @@ public class RadiumDebugCommand extends Command {
                     player.sendMessage(Component.text("/radiumdebug raw <key> - Show raw Redis data").color(NamedTextColor.WHITE));
                     player.sendMessage(Component.text("/radiumdebug clearCache - Clear all caches").color(NamedTextColor.WHITE));
                     player.sendMessage(Component.text("/radiumdebug testChat [message] - Test chat formatting").color(NamedTextColor.WHITE));
+                    player.sendMessage(Component.text("/radiumdebug rpc - Show proxy request latency").color(NamedTextColor.WHITE));
+                    player.sendMessage(Component.text("/radiumdebug tps - Show TPS and tick times").color(NamedTextColor.WHITE));
                     player.sendMessage(Component.text("/radiumdebug clearCache - Clear profile and rank caches").color(NamedTextColor.WHITE));
                     player.sendMessage(Component.text("/radiumdebug testChat [message] - Test chat formatting").color(NamedTextColor.WHITE));
                 }
@@ -172,6 +200,14 @@ public class RadiumDebugCommand extends Command {
             sender.sendMessage(Component.text("/radiumdebug raw <key> - Show raw Redis data").color(NamedTextColor.WHITE));
             sender.sendMessage(Component.text("/radiumdebug clearCache - Clear profile and rank caches").color(NamedTextColor.WHITE));
             sender.sendMessage(Component.text("/radiumdebug testChat [message] - Test chat formatting").color(NamedTextColor.WHITE));
+            sender.sendMessage(Component.text("/radiumdebug rpc - Show proxy request latency").color(NamedTextColor.WHITE));
+            sender.sendMessage(Component.text("/radiumdebug tps - Show TPS and tick times").color(NamedTextColor.WHITE));
         }, subcommand, parameter);
     }
+    
+    private static void sendTickWindow(Player player, String label, TickMonitor.Window window) {
+        player.sendMessage(Component.text(String.format("%s: %.1f TPS, MSPT mean %.2f / p50 %.2f / p95 %.2f / p99 %.2f / max %.2f",
+                label, window.tps(), window.msptMean(), window.msptP50(), window.msptP95(),
+                window.msptP99(), window.msptMax())).color(NamedTextColor.WHITE));
+    }
 }
@@ -5,7 +5,6 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.player.PlayerChatEvent;
 import mythic.hub.MythicHubServer;
-import mythic.hub.integrations.radium.RadiumClient;
 
 public class ChatHandler {
 
@@ -26,22 +25,23 @@ public class ChatHandler {
         // Cancel the original event and handle with Radium formatting
         event.setCancelled(true);
         
-        // Get Radium client and format the message
-        RadiumClient radiumClient = MythicHubServer.getInstance().getRadiumClient();
+        // Per-player throttle and global slow mode (staff bypass both)
+        switch (MythicHubServer.getInstance().getChatRateLimiter().tryAcquire(player)) {
+            case RATE_LIMITED -> {
+                player.sendMessage(Component.text("You are sending messages too quickly! Please slow down.")
+                        .color(NamedTextColor.RED));
+                return;
+            }
+            case SLOW_MODE -> {
+                player.sendMessage(Component.text("Slow mode is enabled. Please wait a few seconds between messages.")
+                        .color(NamedTextColor.RED));
+                return;
+            }
+            default -> {
+            }
+        }
         
-        radiumClient.formatChatMessage(player.getUuid(), player.getUsername(), message)
-            .thenAccept(formattedMessage -> {
-                // Broadcast the formatted message to all players
-                MythicHubServer.getInstance().getChatManager().broadcastToAll(formattedMessage);
-            })
-            .exceptionally(throwable -> {
-                // Fallback if Radium formatting fails
-                Component fallbackMessage = Component.text(player.getUsername() + ": " + message)
-                        .color(NamedTextColor.WHITE);
-                MythicHubServer.getInstance().getChatManager().broadcastToAll(fallbackMessage);
-                
-                System.err.println("Error formatting chat message with Radium: " + throwable.getMessage());
-                return null;
-            });
+        // Formatted off-thread, in order per sender, and broadcast on the next tick
+        MythicHubServer.getInstance().getChatPipeline().submit(player, message);
     }
-}
\ No newline at end of file
+}
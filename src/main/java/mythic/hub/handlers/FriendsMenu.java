@@ -0,0 +1,160 @@
+package mythic.hub.handlers;
+
+import mythic.hub.MythicHubServer;
+import mythic.hub.integrations.radium.FriendsOverview;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.inventory.Inventory;
+import net.minestom.server.inventory.InventoryType;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One player's friends menu.
+ *
+ * Everything shown is fetched by a single {@link mythic.hub.integrations.radium.RadiumClient#getFriendsOverview}
+ * call. The result is applied on the tick thread, replacing the whole inventory at once.
+ * Friends are paged 27 at a time with online friends first; the first 9 incoming and
+ * outgoing requests are shown below them.
+ */
+public class FriendsMenu extends Inventory {
+    private static final TextColor LIGHT_PINK = TextColor.color(255, 182, 193);
+    private static final int FRIENDS_PER_PAGE = 27;
+    private static final int INCOMING_START = 27;
+    private static final int OUTGOING_START = 36;
+    private static final int REQUESTS_SHOWN = 9;
+
+    private static final Component ONLINE = Component.text("● Online").color(NamedTextColor.GREEN).decoration(TextDecoration.ITALIC, false);
+    private static final Component OFFLINE = Component.text("● Offline").color(NamedTextColor.GRAY).decoration(TextDecoration.ITALIC, false);
+    private static final Component RIGHT_CLICK_REMOVE = Component.text("Right-click to remove").color(NamedTextColor.GRAY).decoration(TextDecoration.ITALIC, false);
+    private static final Component LEFT_CLICK_ACCEPT = Component.text("Left-click to accept").color(NamedTextColor.GREEN).decoration(TextDecoration.ITALIC, false);
+    private static final Component RIGHT_CLICK_DENY = Component.text("Right-click to deny").color(NamedTextColor.RED).decoration(TextDecoration.ITALIC, false);
+    private static final Component WAITING = Component.text("Waiting for response...").color(NamedTextColor.GRAY).decoration(TextDecoration.ITALIC, false);
+    private static final Component RIGHT_CLICK_CANCEL = Component.text("Right-click to cancel").color(NamedTextColor.RED).decoration(TextDecoration.ITALIC, false);
+
+    private FriendsOverview overview = FriendsOverview.EMPTY;
+    // Online friends first, rebuilt whenever a new overview is applied
+    private List<FriendsOverview.Entry> orderedFriends = List.of();
+    private int page;
+
+    private FriendsMenu() {
+        super(InventoryType.CHEST_6_ROW, Component.text("Friends")
+                .color(LIGHT_PINK)
+                .decoration(TextDecoration.ITALIC, false));
+    }
+
+    /**
+     * Open the menu right away with its controls and fill it in once the batch load finishes
+     */
+    public static void open(Player player) {
+        FriendsMenu menu = new FriendsMenu();
+        menu.render();
+        player.openInventory(menu);
+
+        MythicHubServer.getInstance().getRadiumClient().getFriendsOverview(player.getUuid())
+                .thenAccept(overview -> MinecraftServer.getSchedulerManager().scheduleNextTick(() -> menu.show(overview)));
+    }
+
+    private void show(FriendsOverview overview) {
+        this.overview = overview;
+
+        List<FriendsOverview.Entry> online = new ArrayList<>();
+        List<FriendsOverview.Entry> offline = new ArrayList<>();
+        for (FriendsOverview.Entry friend : overview.friends()) {
+            (isOnline(friend) ? online : offline).add(friend);
+        }
+        online.addAll(offline);
+        this.orderedFriends = online;
+
+        render();
+    }
+
+    /**
+     * Move forward or back by the given number of pages, staying within bounds
+     */
+    public void turnPage(int delta) {
+        int target = Math.max(0, Math.min(pageCount() - 1, page + delta));
+        if (target != page) {
+            page = target;
+            render();
+        }
+    }
+
+    private int pageCount() {
+        return Math.max(1, (orderedFriends.size() + FRIENDS_PER_PAGE - 1) / FRIENDS_PER_PAGE);
+    }
+
+    // Build the full contents and replace the inventory in one update
+    private void render() {
+        ItemStack[] contents = new ItemStack[InventoryType.CHEST_6_ROW.getSize()];
+        Arrays.fill(contents, ItemStack.AIR);
+
+        int first = page * FRIENDS_PER_PAGE;
+        for (int i = 0; i < FRIENDS_PER_PAGE && first + i < orderedFriends.size(); i++) {
+            contents[i] = friendItem(orderedFriends.get(first + i));
+        }
+
+        List<FriendsOverview.Entry> incoming = overview.incoming();
+        for (int i = 0; i < Math.min(incoming.size(), REQUESTS_SHOWN); i++) {
+            contents[INCOMING_START + i] = requestItem(Material.YELLOW_WOOL, "Request from " + incoming.get(i).name(),
+                    NamedTextColor.YELLOW, LEFT_CLICK_ACCEPT, RIGHT_CLICK_DENY);
+        }
+
+        List<FriendsOverview.Entry> outgoing = overview.outgoing();
+        for (int i = 0; i < Math.min(outgoing.size(), REQUESTS_SHOWN); i++) {
+            contents[OUTGOING_START + i] = requestItem(Material.ORANGE_WOOL, "Sent to " + outgoing.get(i).name(),
+                    NamedTextColor.GOLD, WAITING, RIGHT_CLICK_CANCEL);
+        }
+
+        contents[45] = MenuItems.ADD_FRIEND;
+        if (page > 0) {
+            contents[48] = pageItem("Previous Page", HubItemAction.PREVIOUS_PAGE);
+        }
+        contents[49] = MenuItems.VIEW_REQUESTS;
+        if (page < pageCount() - 1) {
+            contents[50] = pageItem("Next Page", HubItemAction.NEXT_PAGE);
+        }
+        contents[53] = MenuItems.CLOSE;
+
+        copyContents(contents);
+    }
+
+    private static boolean isOnline(FriendsOverview.Entry friend) {
+        return MinecraftServer.getConnectionManager().getOnlinePlayerByUuid(friend.uuid()) != null;
+    }
+
+    private static ItemStack friendItem(FriendsOverview.Entry friend) {
+        boolean online = isOnline(friend);
+        return ItemStack.builder(online ? Material.GREEN_WOOL : Material.GRAY_WOOL)
+                .customName(Component.text(friend.name())
+                        .color(online ? NamedTextColor.GREEN : NamedTextColor.WHITE)
+                        .decoration(TextDecoration.ITALIC, false))
+                .lore(List.of(online ? ONLINE : OFFLINE, RIGHT_CLICK_REMOVE))
+                .build();
+    }
+
+    private static ItemStack requestItem(Material material, String name, TextColor color, Component firstLine, Component secondLine) {
+        return ItemStack.builder(material)
+                .customName(Component.text(name).color(color).decoration(TextDecoration.ITALIC, false))
+                .lore(List.of(firstLine, secondLine))
+                .build();
+    }
+
+    private ItemStack pageItem(String name, HubItemAction action) {
+        return ItemStack.builder(Material.ARROW)
+                .customName(Component.text(name).color(NamedTextColor.YELLOW).decoration(TextDecoration.ITALIC, false))
+                .lore(List.of(Component.text("Page " + (page + 1) + " of " + pageCount())
+                        .color(NamedTextColor.GRAY)
+                        .decoration(TextDecoration.ITALIC, false)))
+                .set(HubItemAction.TAG, action)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package mythic.hub.handlers;
+
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.tag.Tag;
+
+/**
+ * What a hub or menu item does. Stored on the item itself in {@link #TAG}, so handlers
+ * dispatch on a single tag read and renaming an item never changes its behavior.
+ */
+public enum HubItemAction {
+    // Hotbar items
+    SERVER_SELECTOR(true),
+    PLAYER_SETTINGS(true),
+    FRIENDS(true),
+    COSMETICS(true),
+    PLAYER_VISIBILITY(true),
+    PROFILE(true),
+
+    // Menu items
+    CLOSE_MENU(false),
+    CHAT_SETTINGS(false),
+    FRIEND_REQUESTS(false),
+    CONNECT_SERVER(false),
+    PREVIOUS_PAGE(false),
+    NEXT_PAGE(false);
+
+    public static final Tag<HubItemAction> TAG = Tag.String("mythic:item_action")
+            .map(HubItemAction::fromName, HubItemAction::name);
+    // Server a CONNECT_SERVER item sends the player to
+    public static final Tag<String> TARGET_SERVER = Tag.String("mythic:target_server");
+
+    private final boolean hotbarItem;
+
+    HubItemAction(boolean hotbarItem) {
+        this.hotbarItem = hotbarItem;
+    }
+
+    public boolean isHotbarItem() {
+        return hotbarItem;
+    }
+
+    /**
+     * The action stored on an item, or null for items the hub didn't create
+     */
+    public static HubItemAction of(ItemStack item) {
+        return item != null ? item.getTag(TAG) : null;
+    }
+
+    private static HubItemAction fromName(String name) {
+        try {
+            return valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null; // Item from an older build with a since removed action
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package mythic.hub.handlers;
+
+import net.minestom.server.event.inventory.InventoryPreClickEvent;
+import net.minestom.server.event.item.ItemDropEvent;
+import net.minestom.server.event.player.PlayerSwapItemEvent;
+
+/**
+ * Keeps hub items in their hotbar slots by cancelling the events that could move them.
+ * Nothing runs while players aren't interacting with their inventory.
+ */
+public class HubItemProtection {
+
+    /**
+     * Clicks in the player's own inventory. Covers picking up, shift-clicking, dropping from
+     * the inventory and number-key swaps: for a number-key swap (CHANGE_HELD) Minestom passes
+     * the hotbar item being swapped as the cursor item.
+     */
+    public static void onInventoryPreClick(InventoryPreClickEvent event) {
+        if (HubItems.isLockedSlot(event.getSlot())
+                || HubItems.isHubItem(event.getClickedItem())
+                || HubItems.isHubItem(event.getCursorItem())) {
+            event.setCancelled(true);
+        }
+    }
+
+    public static void onItemDrop(ItemDropEvent event) {
+        if (HubItems.isHubItem(event.getItemStack())) {
+            event.setCancelled(true);
+        }
+    }
+
+    public static void onSwapItem(PlayerSwapItemEvent event) {
+        if (HubItems.isHubItem(event.getMainHandItem()) || HubItems.isHubItem(event.getOffHandItem())) {
+            event.setCancelled(true);
+        }
+    }
+}
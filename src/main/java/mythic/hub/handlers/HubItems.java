@@ -1,9 +1,12 @@
 package mythic.hub.handlers;
 
+import mythic.hub.MythicHubServer;
+import mythic.hub.skins.SkinResolver;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.PlayerSkin;
 import net.minestom.server.item.ItemStack;
@@ -12,9 +15,12 @@ import net.minestom.server.item.Material;
 import net.minestom.server.item.component.HeadProfile;
 
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 public class HubItems {
+    // Hotbar slots holding hub items; nothing may be moved into or out of them
+    public static final Set<Integer> LOCKED_SLOTS = Set.of(0, 1, 2, 4, 7, 8);
+
     private static final TextColor LIGHT_PINK = TextColor.color(255, 182, 193);
     private static final Component SETTINGS_LORE = Component.text("Right-click to open settings")
             .color(NamedTextColor.GRAY)
@@ -35,160 +41,110 @@ public class HubItems {
             .color(NamedTextColor.GRAY)
             .decoration(TextDecoration.ITALIC, false);
 
-    // Cache for player skins to avoid repeated API calls
-    private static final ConcurrentHashMap<String, PlayerSkin> skinCache = new ConcurrentHashMap<>();
+    // Hotbar items are immutable, so every player shares the same instances
+    public static final ItemStack SERVER_SELECTOR = hotbarItem(Material.COMPASS, "Server Selector",
+            SERVER_SELECTOR_LORE, HubItemAction.SERVER_SELECTOR);
+    public static final ItemStack PLAYER_SETTINGS = hotbarItem(Material.REDSTONE, "Player Settings",
+            SETTINGS_LORE, HubItemAction.PLAYER_SETTINGS);
+    public static final ItemStack FRIENDS = hotbarItem(Material.EMERALD, "Friends",
+            FRIENDS_LORE, HubItemAction.FRIENDS);
+    public static final ItemStack COSMETICS = hotbarItem(Material.ENDER_PEARL, "Cosmetics",
+            COSMETICS_LORE, HubItemAction.COSMETICS);
+    public static final ItemStack VISIBILITY_ON = ItemStack.builder(Material.LIME_DYE)
+            .customName(Component.text("Player Visibility: ON")
+                    .color(NamedTextColor.GREEN)
+                    .decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(VISIBILITY_LORE))
+            .set(HubItemAction.TAG, HubItemAction.PLAYER_VISIBILITY)
+            .build();
+    public static final ItemStack VISIBILITY_OFF = ItemStack.builder(Material.GRAY_DYE)
+            .customName(Component.text("Player Visibility: OFF")
+                    .color(NamedTextColor.RED)
+                    .decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(VISIBILITY_LORE))
+            .set(HubItemAction.TAG, HubItemAction.PLAYER_VISIBILITY)
+            .build();
+
+    // Profile head without textures; the player's skin is patched in once resolved
+    private static final ItemStack PROFILE_PLACEHOLDER = ItemStack.builder(Material.PLAYER_HEAD)
+            .customName(Component.text("Profile")
+                    .color(LIGHT_PINK)
+                    .decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(PROFILE_LORE))
+            .set(HubItemAction.TAG, HubItemAction.PROFILE)
+            .build();
 
     public static void giveHubItems(Player player) {
         player.getInventory().clear();
 
-        // Pre-build items for better performance
-        ItemStack serverSelector = createServerSelector();
-        ItemStack playerSettings = createPlayerSettings();
-        ItemStack friends = createFriends();
-        ItemStack cosmetics = createCosmetics();
-        ItemStack playerHider = createPlayerHider();
-        ItemStack profile = createProfile(player);
-
-        // Set items in inventory
-        player.getInventory().setItemStack(0, serverSelector);
-        player.getInventory().setItemStack(1, playerSettings);
-        player.getInventory().setItemStack(2, friends);
-        player.getInventory().setItemStack(4, cosmetics);
-        player.getInventory().setItemStack(7, playerHider);
-        player.getInventory().setItemStack(8, profile);
-    }
-
-    private static ItemStack createServerSelector() {
-        return ItemStack.builder(Material.COMPASS)
-                .customName(Component.text("Server Selector")
-                        .color(LIGHT_PINK)
-                        .decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(SERVER_SELECTOR_LORE))
-                .build();
+        // Set items in inventory; only the profile head is built per player
+        player.getInventory().setItemStack(0, SERVER_SELECTOR);
+        player.getInventory().setItemStack(1, PLAYER_SETTINGS);
+        player.getInventory().setItemStack(2, FRIENDS);
+        player.getInventory().setItemStack(4, COSMETICS);
+        player.getInventory().setItemStack(7, VISIBILITY_ON);
+        player.getInventory().setItemStack(8, createProfile(player));
     }
 
-    private static ItemStack createPlayerSettings() {
-        return ItemStack.builder(Material.REDSTONE)
-                .customName(Component.text("Player Settings")
-                        .color(LIGHT_PINK)
-                        .decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(SETTINGS_LORE))
-                .build();
-    }
+    /**
+     * The profile head with the player's skin if it is already cached, otherwise a placeholder
+     * that is swapped for the textured head once the skin resolves
+     */
+    private static ItemStack createProfile(Player player) {
+        PlayerSkin cachedSkin = knownSkin(player.getUuid());
+        if (cachedSkin != null) {
+            return withSkin(PROFILE_PLACEHOLDER, cachedSkin);
+        }
 
-    private static ItemStack createFriends() {
-        return ItemStack.builder(Material.EMERALD)
-                .customName(Component.text("Friends")
-                        .color(LIGHT_PINK)
-                        .decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(FRIENDS_LORE))
-                .build();
+        skins().resolve(player.getUuid()).thenAccept(skin -> {
+            if (skin == null) {
+                return;
+            }
+            MinecraftServer.getSchedulerManager().scheduleNextTick(() -> {
+                // Skip if the player left or the head was replaced in the meantime
+                if (player.isOnline() && player.getInventory().getItemStack(8).equals(PROFILE_PLACEHOLDER)) {
+                    player.getInventory().setItemStack(8, withSkin(PROFILE_PLACEHOLDER, skin));
+                }
+            });
+        });
+        return PROFILE_PLACEHOLDER;
     }
 
-    private static ItemStack createCosmetics() {
-        return ItemStack.builder(Material.ENDER_PEARL)
-                .customName(Component.text("Cosmetics")
-                        .color(LIGHT_PINK)
-                        .decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(COSMETICS_LORE))
-                .build();
+    public static boolean isLockedSlot(int slot) {
+        return LOCKED_SLOTS.contains(slot);
     }
 
-    private static ItemStack createPlayerHider() {
-        return ItemStack.builder(Material.LIME_DYE)
-                .customName(Component.text("Player Visibility: ON")
-                        .color(NamedTextColor.GREEN)
-                        .decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(VISIBILITY_LORE))
-                .build();
+    public static boolean isHubItem(ItemStack item) {
+        HubItemAction action = HubItemAction.of(item);
+        return action != null && action.isHotbarItem();
     }
 
-    private static ItemStack createProfile(Player player) {
-        ItemStack.Builder profileBuilder = ItemStack.builder(Material.PLAYER_HEAD)
-                .customName(Component.text("Profile")
+    private static ItemStack hotbarItem(Material material, String name, Component lore, HubItemAction action) {
+        return ItemStack.builder(material)
+                .customName(Component.text(name)
                         .color(LIGHT_PINK)
                         .decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(PROFILE_LORE));
-
-        // Use cached skin if available
-        String uuid = player.getUuid().toString();
-        PlayerSkin cachedSkin = skinCache.get(uuid);
-
-        if (cachedSkin != null) {
-            profileBuilder.set(ItemComponent.PROFILE, new HeadProfile(cachedSkin));
-        } else {
-            // Try to get the player's skin and cache it
-            try {
-                PlayerSkin playerSkin = PlayerSkin.fromUuid(uuid);
-                if (playerSkin != null) {
-                    skinCache.put(uuid, playerSkin);
-                    profileBuilder.set(ItemComponent.PROFILE, new HeadProfile(playerSkin));
-                }
-            } catch (Exception e) {
-                System.out.println("Could not load skin for player: " + player.getUsername() + " - " + e.getMessage());
-            }
-        }
-
-        return profileBuilder.build();
+                .lore(List.of(lore))
+                .set(HubItemAction.TAG, action)
+                .build();
     }
 
-    public static ItemStack createPlayerHead(Player targetPlayer, Component displayName, List<Component> lore) {
-        ItemStack.Builder headBuilder = ItemStack.builder(Material.PLAYER_HEAD)
-                .customName(displayName)
-                .lore(lore);
-
-        String uuid = targetPlayer.getUuid().toString();
-        PlayerSkin cachedSkin = skinCache.get(uuid);
-
-        if (cachedSkin != null) {
-            headBuilder.set(ItemComponent.PROFILE, new HeadProfile(cachedSkin));
-        } else {
-            try {
-                PlayerSkin playerSkin = PlayerSkin.fromUuid(uuid);
-                if (playerSkin != null) {
-                    skinCache.put(uuid, playerSkin);
-                    headBuilder.set(ItemComponent.PROFILE, new HeadProfile(playerSkin));
-                }
-            } catch (Exception e) {
-                System.out.println("Could not load skin for player: " + targetPlayer.getUsername() + " - " + e.getMessage());
-            }
-        }
-
-        return headBuilder.build();
+    private static ItemStack withSkin(ItemStack head, PlayerSkin skin) {
+        return head.with(ItemComponent.PROFILE, new HeadProfile(skin));
     }
 
-    public static ItemStack createPlayerHeadFromUuid(java.util.UUID playerUuid, String playerName, Component displayName, List<Component> lore) {
-        ItemStack.Builder headBuilder = ItemStack.builder(Material.PLAYER_HEAD)
-                .customName(displayName)
-                .lore(lore);
-
-        String uuid = playerUuid.toString();
-        PlayerSkin cachedSkin = skinCache.get(uuid);
-
-        if (cachedSkin != null) {
-            headBuilder.set(ItemComponent.PROFILE, new HeadProfile(cachedSkin));
-        } else {
-            try {
-                PlayerSkin playerSkin = PlayerSkin.fromUuid(uuid);
-                if (playerSkin != null) {
-                    skinCache.put(uuid, playerSkin);
-                    headBuilder.set(ItemComponent.PROFILE, new HeadProfile(playerSkin));
-                }
-            } catch (Exception e) {
-                System.out.println("Could not load skin for UUID: " + playerUuid + " (Name: " + playerName + ") - " + e.getMessage());
-            }
+    /**
+     * Skin of a player on this hub as sent with their login, otherwise whatever is cached in memory
+     */
+    private static PlayerSkin knownSkin(java.util.UUID playerUuid) {
+        Player online = MinecraftServer.getConnectionManager().getOnlinePlayerByUuid(playerUuid);
+        if (online != null && online.getSkin() != null) {
+            return online.getSkin();
         }
-
-        return headBuilder.build();
-    }
-
-    // Method to clear cached skins when needed
-    public static void clearSkinCache() {
-        skinCache.clear();
+        return skins().getIfCached(playerUuid);
     }
 
-    // Method to remove specific player from cache
-    public static void removeSkinFromCache(String uuid) {
-        skinCache.remove(uuid);
+    private static SkinResolver skins() {
+        return MythicHubServer.getInstance().getSkinResolver();
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package mythic.hub.handlers;
 
 import mythic.hub.MythicHubServer;
-import mythic.hub.integrations.radium.RadiumClient;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -9,16 +8,14 @@ import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.player.PlayerUseItemEvent;
+import net.minestom.server.inventory.AbstractInventory;
 import net.minestom.server.inventory.Inventory;
 import net.minestom.server.inventory.InventoryType;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.sound.SoundEvent;
-import net.minestom.server.MinecraftServer;
 
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class ItemHandler {
     private static final TextColor LIGHT_PINK = TextColor.color(255, 182, 193);
@@ -27,16 +24,13 @@ public class ItemHandler {
     private static final TextColor GREEN = NamedTextColor.GREEN;
     private static final TextColor RED = NamedTextColor.RED;
 
-    // Use ConcurrentHashMap for thread safety
-    private static final ConcurrentHashMap<Player, Boolean> playerVisibility = new ConcurrentHashMap<>();
-
     // Cache sound for performance
     private static final Sound CLICK_SOUND = Sound.sound(SoundEvent.UI_BUTTON_CLICK, Sound.Source.PLAYER, 0.5f, 1.0f);
 
-    // Pre-create common components
-    private static final Component EMPTY_COMPONENT = Component.empty();
-    private static final Component CLICK_TO_JOIN = Component.text("Click to join!").color(GREEN).decoration(TextDecoration.ITALIC, false);
-    private static final Component CLOSE_TEXT = Component.text("Close").color(RED).decoration(TextDecoration.ITALIC, false);
+    private static final Component PLAYERS_VISIBLE = Component.text("Players are now ").color(GRAY)
+            .append(Component.text("visible").color(GREEN));
+    private static final Component PLAYERS_HIDDEN = Component.text("Players are now ").color(GRAY)
+            .append(Component.text("hidden").color(RED));
 
     public static void onPlayerUseItem(PlayerUseItemEvent event) {
         Player player = event.getPlayer();
@@ -46,186 +40,114 @@ public class ItemHandler {
             return;
         }
 
-        // Check by slot position since we know where each item is placed
-        int slot = getSlotOfItem(player, item);
-        if (slot == -1) return;
+        HubItemAction action = HubItemAction.of(item);
+        if (action == null || !action.isHotbarItem()) {
+            return;
+        }
 
         // Play click sound
         player.playSound(CLICK_SOUND);
 
-        switch (slot) {
-            case 0 -> handleServerSelector(player);
-            case 1 -> handlePlayerSettings(player);
-            case 4 -> handleCosmetics(player);
-            case 7 -> handlePlayerVisibility(player);
-            case 8 -> handleProfile(player);
+        switch (action) {
+            case SERVER_SELECTOR -> handleServerSelector(player);
+            case PLAYER_SETTINGS -> handlePlayerSettings(player);
+            case FRIENDS -> handleFriends(player);
+            case COSMETICS -> handleCosmetics(player);
+            case PLAYER_VISIBILITY -> handlePlayerVisibility(player);
+            case PROFILE -> handleProfile(player);
+            default -> {
+            }
         }
     }
 
-    private static int getSlotOfItem(Player player, ItemStack item) {
-        Material itemMaterial = item.material();
-        for (int i = 0; i < 9; i++) {  // Fixed: added 'i' before the '<' operator
-            ItemStack slotItem = player.getInventory().getItemStack(i);
-            if (slotItem != null && slotItem.material() == itemMaterial) {
-                return i;
+    /**
+     * Handles a click on an item in one of the hub's menus
+     */
+    public static void onMenuClick(Player player, AbstractInventory inventory, ItemStack item) {
+        HubItemAction action = HubItemAction.of(item);
+        if (action == null) {
+            return;
+        }
+
+        switch (action) {
+            case CLOSE_MENU -> player.closeInventory();
+            case CHAT_SETTINGS -> {
+                player.closeInventory();
+                boolean hidden = MythicHubServer.getInstance().getChatManager().toggleChatHidden(player);
+                player.sendMessage(Component.text(hidden
+                                ? "Player chat hidden. Click Chat Settings again to show it."
+                                : "Player chat is visible again.")
+                        .color(NamedTextColor.YELLOW));
+            }
+            case FRIEND_REQUESTS -> {
+                player.closeInventory();
+                handleFriends(player);
+            }
+            case CONNECT_SERVER -> {
+                String server = item.getTag(HubItemAction.TARGET_SERVER);
+                player.closeInventory();
+                player.sendMessage(Component.text("Connecting to " + server + "...").color(GREEN));
+                // Here you would implement server switching logic
+            }
+            case PREVIOUS_PAGE -> {
+                if (inventory instanceof FriendsMenu friendsMenu) {
+                    friendsMenu.turnPage(-1);
+                }
+            }
+            case NEXT_PAGE -> {
+                if (inventory instanceof FriendsMenu friendsMenu) {
+                    friendsMenu.turnPage(1);
+                }
+            }
+            default -> {
             }
         }
-        return -1;
     }
 
     private static void handleServerSelector(Player player) {
-
-        Inventory serverMenu = new Inventory(InventoryType.CHEST_3_ROW,
-                Component.text("Server Selector")
-                        .color(LIGHT_PINK)
-                        .decoration(TextDecoration.BOLD, true));
-
-
-        TextColor LIGHT_BLUE = TextColor.color(173, 216, 230);
-        TextColor DARK_BLUE = NamedTextColor.DARK_BLUE;
-        TextColor LIGHT_RED = NamedTextColor.RED; // Changed to use &c (NamedTextColor.RED)
-        TextColor DARK_RED = NamedTextColor.DARK_RED; // Dark red for Gens player count
-        TextColor LIGHT_GREEN = NamedTextColor.GREEN;
-        TextColor DARK_GREEN = NamedTextColor.DARK_GREEN;
-
-
-        int prisonPlayers = getServerPlayerCount("Prison");
-        int gensPlayers = getServerPlayerCount("Gens");
-        int skyblockPlayers = getServerPlayerCount("Skyblock");
-
-
-        Component playersOnlineText = Component.text("Players Online: ").color(WHITE).decoration(TextDecoration.ITALIC, false);
-
-
-        ItemStack prison = ItemStack.builder(Material.IRON_BARS)
-                .customName(Component.text("Prison").color(LIGHT_BLUE).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(
-                        Component.text("Mine, rankup, and dominate!").color(GRAY).decoration(TextDecoration.ITALIC, false),
-                        EMPTY_COMPONENT,
-                        playersOnlineText.append(Component.text(String.valueOf(prisonPlayers)).color(DARK_BLUE)),
-                        EMPTY_COMPONENT,
-                        CLICK_TO_JOIN
-                ))
-                .build();
-
-
-        ItemStack gens = ItemStack.builder(Material.SPAWNER)
-                .customName(Component.text("Gens").color(LIGHT_RED).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(
-                        Component.text("Generate resources and build!").color(GRAY).decoration(TextDecoration.ITALIC, false),
-                        EMPTY_COMPONENT,
-                        playersOnlineText.append(Component.text(String.valueOf(gensPlayers)).color(DARK_RED)),
-                        EMPTY_COMPONENT,
-                        CLICK_TO_JOIN
-                ))
-                .build();
-
-
-        ItemStack skyblock = ItemStack.builder(Material.GRASS_BLOCK)
-                .customName(Component.text("Skyblock").color(LIGHT_GREEN).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(
-                        Component.text("Start from nothing, build everything!").color(GRAY).decoration(TextDecoration.ITALIC, false),
-                        EMPTY_COMPONENT,
-                        playersOnlineText.append(Component.text(String.valueOf(skyblockPlayers)).color(DARK_GREEN)),
-                        EMPTY_COMPONENT,
-                        CLICK_TO_JOIN
-                ))
-                .build();
-
-
-        serverMenu.setItemStack(10, prison);   // Middle row, second position
-        serverMenu.setItemStack(13, gens);     // Middle row, fourth position  
-        serverMenu.setItemStack(16, skyblock); // Middle row, sixth position
-
-        player.openInventory(serverMenu);
-    }
-
-    private static int getServerPlayerCount(String serverName) {
-        // Mock implementation - replace with actual server communication
-        // You'll need to implement Redis communication or BungeeCord plugin messaging
-        // to get real player counts from other servers
-        switch (serverName.toLowerCase()) {
-            case "prison":
-                return 42; // Mock data
-            case "gens":
-                return 28; // Mock data
-            case "skyblock":
-                return 35; // Mock data
-            default:
-                return 0;
-        }
+        MythicHubServer.getInstance().getServerSelectorMenu().open(player);
     }
 
     private static void handlePlayerSettings(Player player) {
-        Inventory settingsMenu = new Inventory(InventoryType.CHEST_3_ROW,
-                Component.text("Player Settings")
-                        .color(LIGHT_PINK)
-                        .decoration(TextDecoration.BOLD, true));
-
-        ItemStack chatSettings = ItemStack.builder(Material.WRITABLE_BOOK)
-                .customName(Component.text("Chat Settings").color(WHITE).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("Configure chat preferences").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack friendRequests = ItemStack.builder(Material.PLAYER_HEAD)
-                .customName(Component.text("Friend Requests").color(GREEN).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("Manage friend requests").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack soundSettings = ItemStack.builder(Material.NOTE_BLOCK)
-                .customName(Component.text("Sound Settings").color(NamedTextColor.YELLOW).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("Configure sound preferences").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack back = ItemStack.builder(Material.BARRIER)
-                .customName(CLOSE_TEXT)
-                .build();
-
-        settingsMenu.setItemStack(11, chatSettings);
-        settingsMenu.setItemStack(13, friendRequests);
-        settingsMenu.setItemStack(15, soundSettings);
-        settingsMenu.setItemStack(22, back);
-
-        player.openInventory(settingsMenu);
+        player.openInventory(SharedMenus.SETTINGS);
     }
 
     private static void handleCosmetics(Player player) {
-        Inventory cosmeticsMenu = new Inventory(InventoryType.CHEST_6_ROW,
-                Component.text("Cosmetics")
-                        .color(LIGHT_PINK)
-                        .decoration(TextDecoration.BOLD, true));
-
-        ItemStack particles = ItemStack.builder(Material.FIREWORK_STAR)
-                .customName(Component.text("Particle Effects").color(LIGHT_PINK).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("Customize your particle trail").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack hats = ItemStack.builder(Material.DIAMOND_HELMET)
-                .customName(Component.text("Hats").color(NamedTextColor.AQUA).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("Show off with stylish hats").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack pets = ItemStack.builder(Material.BONE)
-                .customName(Component.text("Pets").color(GREEN).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("Adopt a loyal companion").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack gadgets = ItemStack.builder(Material.BLAZE_ROD)
-                .customName(Component.text("Gadgets").color(NamedTextColor.GOLD).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("Fun gadgets and toys").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack back = ItemStack.builder(Material.BARRIER)
-                .customName(CLOSE_TEXT)
-                .build();
+        player.openInventory(SharedMenus.COSMETICS);
+    }
 
-        cosmeticsMenu.setItemStack(20, particles);
-        cosmeticsMenu.setItemStack(22, hats);
-        cosmeticsMenu.setItemStack(24, pets);
-        cosmeticsMenu.setItemStack(26, gadgets);
-        cosmeticsMenu.setItemStack(49, back);
+    /**
+     * Menus with the same contents for everyone. Every click in them is cancelled,
+     * so one inventory can be open for any number of players at once.
+     */
+    private static final class SharedMenus {
+        private static final Inventory SETTINGS = createSettingsMenu();
+        private static final Inventory COSMETICS = createCosmeticsMenu();
+
+        private static Inventory createSettingsMenu() {
+            Inventory settingsMenu = new Inventory(InventoryType.CHEST_3_ROW,
+                    Component.text("Player Settings")
+                            .color(LIGHT_PINK)
+                            .decoration(TextDecoration.BOLD, true));
+            settingsMenu.setItemStack(11, MenuItems.CHAT_SETTINGS);
+            settingsMenu.setItemStack(13, MenuItems.FRIEND_REQUESTS);
+            settingsMenu.setItemStack(15, MenuItems.SOUND_SETTINGS);
+            settingsMenu.setItemStack(22, MenuItems.CLOSE);
+            return settingsMenu;
+        }
 
-        player.openInventory(cosmeticsMenu);
+        private static Inventory createCosmeticsMenu() {
+            Inventory cosmeticsMenu = new Inventory(InventoryType.CHEST_6_ROW,
+                    Component.text("Cosmetics")
+                            .color(LIGHT_PINK)
+                            .decoration(TextDecoration.BOLD, true));
+            cosmeticsMenu.setItemStack(20, MenuItems.PARTICLES);
+            cosmeticsMenu.setItemStack(22, MenuItems.HATS);
+            cosmeticsMenu.setItemStack(24, MenuItems.PETS);
+            cosmeticsMenu.setItemStack(26, MenuItems.GADGETS);
+            cosmeticsMenu.setItemStack(49, MenuItems.CLOSE);
+            return cosmeticsMenu;
+        }
     }
 
     private static void handleProfile(Player player) {
@@ -272,229 +194,24 @@ public class ItemHandler {
                 .lore(List.of(Component.text("Your current rank").color(GRAY).decoration(TextDecoration.ITALIC, false)))
                 .build();
 
-        ItemStack stats = ItemStack.builder(Material.BOOK)
-                .customName(Component.text("Statistics").color(NamedTextColor.YELLOW).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(
-                        Component.text("View your game statistics").color(GRAY).decoration(TextDecoration.ITALIC, false),
-                        EMPTY_COMPONENT,
-                        Component.text("Total Playtime: Coming Soon").color(GRAY).decoration(TextDecoration.ITALIC, false),
-                        Component.text("Games Played: Coming Soon").color(GRAY).decoration(TextDecoration.ITALIC, false)
-                ))
-                .build();
-
-        ItemStack achievements = ItemStack.builder(Material.DIAMOND)
-                .customName(Component.text("Achievements").color(NamedTextColor.AQUA).decoration(TextDecoration.ITALIC, false))
-                .lore(List.of(Component.text("View your achievements").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                .build();
-
-        ItemStack back = ItemStack.builder(Material.BARRIER)
-                .customName(CLOSE_TEXT)
-                .build();
-
         profileMenu.setItemStack(13, playerInfo);
         profileMenu.setItemStack(21, rankInfo);
-        profileMenu.setItemStack(23, stats);
-        profileMenu.setItemStack(25, achievements);
-        profileMenu.setItemStack(49, back);
+        profileMenu.setItemStack(23, MenuItems.STATISTICS);
+        profileMenu.setItemStack(25, MenuItems.ACHIEVEMENTS);
+        profileMenu.setItemStack(49, MenuItems.CLOSE);
 
         player.openInventory(profileMenu);
     }
 
     private static void handlePlayerVisibility(Player player) {
-        boolean currentlyVisible = playerVisibility.getOrDefault(player, true);
-        boolean newVisibility = !currentlyVisible;
-        playerVisibility.put(player, newVisibility);
-
-        ItemStack visibilityItem;
-        Component message;
+        boolean newVisibility = MythicHubServer.getInstance().getVisibilityManager().toggle(player);
 
-        if (newVisibility) {
-            visibilityItem = ItemStack.builder(Material.LIME_DYE)
-                    .customName(Component.text("Player Visibility: ON").color(GREEN).decoration(TextDecoration.ITALIC, false))
-                    .lore(List.of(Component.text("Right-click to toggle player visibility").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                    .build();
-            message = Component.text("Players are now ").color(GRAY).append(Component.text("visible").color(GREEN));
-        } else {
-            visibilityItem = ItemStack.builder(Material.GRAY_DYE)
-                    .customName(Component.text("Player Visibility: OFF").color(RED).decoration(TextDecoration.ITALIC, false))
-                    .lore(List.of(Component.text("Right-click to toggle player visibility").color(GRAY).decoration(TextDecoration.ITALIC, false)))
-                    .build();
-            message = Component.text("Players are now ").color(GRAY).append(Component.text("hidden").color(RED));
-        }
-
-        player.getInventory().setItemStack(7, visibilityItem);
-        player.sendMessage(message);
+        player.getInventory().setItemStack(7, newVisibility ? HubItems.VISIBILITY_ON : HubItems.VISIBILITY_OFF);
+        player.sendMessage(newVisibility ? PLAYERS_VISIBLE : PLAYERS_HIDDEN);
     }
 
-    public static void resetPlayerVisibility(Player player) {
-        playerVisibility.remove(player);
-    }
-// Add this to your onPlayerUseItem method in the switch statement or if-else chain
-// Add this method to handle friends functionality
-public static void handleFriends(Player player) {
-    player.playSound(CLICK_SOUND);
-    
-    Inventory friendsInventory = new Inventory(InventoryType.CHEST_6_ROW, Component.text("Friends")
-            .color(LIGHT_PINK)
-            .decoration(TextDecoration.ITALIC, false));
-
-    // Get RadiumClient instance
-    RadiumClient radiumClient = MythicHubServer.getInstance().getRadiumClient();
-    
-    // Load friends and requests asynchronously
-    radiumClient.getFriends(player.getUuid()).thenAccept(friends -> {
-        radiumClient.getIncomingFriendRequests(player.getUuid()).thenAccept(incomingRequests -> {
-            radiumClient.getOutgoingFriendRequests(player.getUuid()).thenAccept(outgoingRequests -> {
-                
-                // Display friends (first 27 slots for friends)
-                List<UUID> friendsList = friends.stream().toList();
-                for (int i = 0; i < Math.min(friendsList.size(), 27); i++) {
-                    final int friendSlot = i;
-                    UUID friendUuid = friendsList.get(i);
-                    
-                    radiumClient.getPlayerName(friendUuid).thenAccept(friendName -> {
-                        if (friendName != null) {
-                            // Check if friend is online
-                            Player onlineFriend = getPlayerByUuid(friendUuid);
-                            
-                            ItemStack friendItem;
-                            if (onlineFriend != null) {
-                                // Online friend (green wool)
-                                friendItem = ItemStack.builder(Material.GREEN_WOOL)
-                                    .customName(Component.text(friendName)
-                                        .color(GREEN)
-                                        .decoration(TextDecoration.ITALIC, false))
-                                    .lore(List.of(
-                                        Component.text("● Online")
-                                            .color(GREEN)
-                                            .decoration(TextDecoration.ITALIC, false),
-                                        Component.text("Right-click to remove")
-                                            .color(GRAY)
-                                            .decoration(TextDecoration.ITALIC, false)
-                                    ))
-                                    .build();
-                            } else {
-                                // Offline friend (gray wool)
-                                friendItem = ItemStack.builder(Material.GRAY_WOOL)
-                                    .customName(Component.text(friendName)
-                                        .color(WHITE)
-                                        .decoration(TextDecoration.ITALIC, false))
-                                    .lore(List.of(
-                                        Component.text("● Offline")
-                                            .color(GRAY)
-                                            .decoration(TextDecoration.ITALIC, false),
-                                        Component.text("Right-click to remove")
-                                            .color(GRAY)
-                                            .decoration(TextDecoration.ITALIC, false)
-                                    ))
-                                    .build();
-                            }
-                            
-                            friendsInventory.setItemStack(friendSlot, friendItem);
-                        }
-                    });
-                }
-                
-                // Display incoming requests (slots 27-35)
-                List<UUID> incomingList = incomingRequests.stream().toList();
-                for (int i = 0; i < Math.min(incomingList.size(), 9); i++) {
-                    final int requestSlot = 27 + i;
-                    UUID requesterUuid = incomingList.get(i);
-                    
-                    radiumClient.getPlayerName(requesterUuid).thenAccept(requesterName -> {
-                        if (requesterName != null) {
-                            ItemStack requestItem = ItemStack.builder(Material.YELLOW_WOOL)
-                                .customName(Component.text("Request from " + requesterName)
-                                    .color(NamedTextColor.YELLOW)
-                                    .decoration(TextDecoration.ITALIC, false))
-                                .lore(List.of(
-                                    Component.text("Left-click to accept")
-                                        .color(GREEN)
-                                        .decoration(TextDecoration.ITALIC, false),
-                                    Component.text("Right-click to deny")
-                                        .color(RED)
-                                        .decoration(TextDecoration.ITALIC, false)
-                                ))
-                                .build();
-                            
-                            friendsInventory.setItemStack(requestSlot, requestItem);
-                        }
-                    });
-                }
-                
-                // Display outgoing requests (slots 36-44)
-                List<UUID> outgoingList = outgoingRequests.stream().toList();
-                for (int i = 0; i < Math.min(outgoingList.size(), 9); i++) {
-                    final int outgoingSlot = 36 + i;
-                    UUID targetUuid = outgoingList.get(i);
-                    
-                    radiumClient.getPlayerName(targetUuid).thenAccept(targetName -> {
-                        if (targetName != null) {
-                            ItemStack outgoingItem = ItemStack.builder(Material.ORANGE_WOOL)
-                                .customName(Component.text("Sent to " + targetName)
-                                    .color(NamedTextColor.GOLD)
-                                    .decoration(TextDecoration.ITALIC, false))
-                                .lore(List.of(
-                                    Component.text("Waiting for response...")
-                                        .color(GRAY)
-                                        .decoration(TextDecoration.ITALIC, false),
-                                    Component.text("Right-click to cancel")
-                                        .color(RED)
-                                        .decoration(TextDecoration.ITALIC, false)
-                                ))
-                                .build();
-                            
-                            friendsInventory.setItemStack(outgoingSlot, outgoingItem);
-                        }
-                    });
-                }
-            });
-        });
-    });
-    
-    // Add friend button
-    ItemStack addFriend = ItemStack.builder(Material.GREEN_WOOL)
-            .customName(Component.text("Add Friend")
-                    .color(GREEN)
-                    .decoration(TextDecoration.ITALIC, false))
-            .lore(List.of(Component.text("Click to send a friend request")
-                    .color(GRAY)
-                    .decoration(TextDecoration.ITALIC, false),
-                    Component.text("Use: /friend add <username>")
-                    .color(GRAY)
-                    .decoration(TextDecoration.ITALIC, false)))
-            .build();
-    
-    // View requests button
-    ItemStack viewRequests = ItemStack.builder(Material.YELLOW_WOOL)
-            .customName(Component.text("View All Requests")
-                    .color(NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false))
-            .lore(List.of(Component.text("Use: /friend requests")
-                    .color(GRAY)
-                    .decoration(TextDecoration.ITALIC, false)))
-            .build();
-    
-    // Close button
-    ItemStack close = ItemStack.builder(Material.BARRIER)
-            .customName(CLOSE_TEXT)
-            .build();
-    
-    // Set control items in inventory
-    friendsInventory.setItemStack(45, addFriend);
-    friendsInventory.setItemStack(49, viewRequests);
-    friendsInventory.setItemStack(53, close);
-    
-    player.openInventory(friendsInventory);
-}
-
-// Helper method to find a player by UUID
-private static Player getPlayerByUuid(UUID uuid) {
-    for (Player onlinePlayer : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
-        if (onlinePlayer.getUuid().equals(uuid)) {
-            return onlinePlayer;
-        }
+    public static void handleFriends(Player player) {
+        player.playSound(CLICK_SOUND);
+        FriendsMenu.open(player);
     }
-    return null;
 }
-}
\ No newline at end of file
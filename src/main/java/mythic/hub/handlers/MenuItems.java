@@ -0,0 +1,127 @@
+package mythic.hub.handlers;
+
+import mythic.hub.managers.PlayerCountManager;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+
+import java.util.List;
+
+/**
+ * Items shown in the hub's menus. Fixed items are built once; server selector entries
+ * display a live player count and are rebuilt by {@link ServerSelectorMenu} when it changes.
+ */
+public class MenuItems {
+    private static final TextColor LIGHT_PINK = TextColor.color(255, 182, 193);
+    private static final TextColor WHITE = NamedTextColor.WHITE;
+    private static final TextColor GRAY = NamedTextColor.GRAY;
+    private static final TextColor GREEN = NamedTextColor.GREEN;
+    private static final TextColor RED = NamedTextColor.RED;
+
+    private static final Component EMPTY_COMPONENT = Component.empty();
+    private static final Component CLICK_TO_JOIN = Component.text("Click to join!").color(GREEN).decoration(TextDecoration.ITALIC, false);
+    private static final Component PLAYERS_ONLINE = Component.text("Players Online: ").color(WHITE).decoration(TextDecoration.ITALIC, false);
+
+    public static final ItemStack CLOSE = ItemStack.builder(Material.BARRIER)
+            .customName(Component.text("Close").color(RED).decoration(TextDecoration.ITALIC, false))
+            .set(HubItemAction.TAG, HubItemAction.CLOSE_MENU)
+            .build();
+
+    // Player settings
+    public static final ItemStack CHAT_SETTINGS = ItemStack.builder(Material.WRITABLE_BOOK)
+            .customName(Component.text("Chat Settings").color(WHITE).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Configure chat preferences")))
+            .set(HubItemAction.TAG, HubItemAction.CHAT_SETTINGS)
+            .build();
+    public static final ItemStack FRIEND_REQUESTS = ItemStack.builder(Material.PLAYER_HEAD)
+            .customName(Component.text("Friend Requests").color(GREEN).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Manage friend requests")))
+            .set(HubItemAction.TAG, HubItemAction.FRIEND_REQUESTS)
+            .build();
+    public static final ItemStack SOUND_SETTINGS = ItemStack.builder(Material.NOTE_BLOCK)
+            .customName(Component.text("Sound Settings").color(NamedTextColor.YELLOW).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Configure sound preferences")))
+            .build();
+
+    // Cosmetics
+    public static final ItemStack PARTICLES = ItemStack.builder(Material.FIREWORK_STAR)
+            .customName(Component.text("Particle Effects").color(LIGHT_PINK).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Customize your particle trail")))
+            .build();
+    public static final ItemStack HATS = ItemStack.builder(Material.DIAMOND_HELMET)
+            .customName(Component.text("Hats").color(NamedTextColor.AQUA).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Show off with stylish hats")))
+            .build();
+    public static final ItemStack PETS = ItemStack.builder(Material.BONE)
+            .customName(Component.text("Pets").color(GREEN).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Adopt a loyal companion")))
+            .build();
+    public static final ItemStack GADGETS = ItemStack.builder(Material.BLAZE_ROD)
+            .customName(Component.text("Gadgets").color(NamedTextColor.GOLD).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Fun gadgets and toys")))
+            .build();
+
+    // Profile
+    public static final ItemStack STATISTICS = ItemStack.builder(Material.BOOK)
+            .customName(Component.text("Statistics").color(NamedTextColor.YELLOW).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(
+                    lore("View your game statistics"),
+                    EMPTY_COMPONENT,
+                    lore("Total Playtime: Coming Soon"),
+                    lore("Games Played: Coming Soon")
+            ))
+            .build();
+    public static final ItemStack ACHIEVEMENTS = ItemStack.builder(Material.DIAMOND)
+            .customName(Component.text("Achievements").color(NamedTextColor.AQUA).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("View your achievements")))
+            .build();
+
+    // Friends
+    public static final ItemStack ADD_FRIEND = ItemStack.builder(Material.GREEN_WOOL)
+            .customName(Component.text("Add Friend").color(GREEN).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Click to send a friend request"), lore("Use: /friend add <username>")))
+            .build();
+    public static final ItemStack VIEW_REQUESTS = ItemStack.builder(Material.YELLOW_WOOL)
+            .customName(Component.text("View All Requests").color(NamedTextColor.YELLOW).decoration(TextDecoration.ITALIC, false))
+            .lore(List.of(lore("Use: /friend requests")))
+            .build();
+
+    // Server selector entries, in menu order
+    public static final List<ServerEntry> SERVERS = List.of(
+            new ServerEntry("Prison", Material.IRON_BARS, TextColor.color(173, 216, 230), NamedTextColor.DARK_BLUE,
+                    "Mine, rankup, and dominate!", 10),
+            new ServerEntry("Gens", Material.SPAWNER, NamedTextColor.RED, NamedTextColor.DARK_RED,
+                    "Generate resources and build!", 13),
+            new ServerEntry("Skyblock", Material.GRASS_BLOCK, NamedTextColor.GREEN, NamedTextColor.DARK_GREEN,
+                    "Start from nothing, build everything!", 16)
+    );
+
+    /**
+     * Selector item for a server showing the given player count
+     */
+    public static ItemStack serverItem(ServerEntry server, int players) {
+        return ItemStack.builder(server.material())
+                .customName(Component.text(server.name()).color(server.color()).decoration(TextDecoration.ITALIC, false))
+                .lore(List.of(
+                        lore(server.description()),
+                        EMPTY_COMPONENT,
+                        PLAYERS_ONLINE.append(Component.text(PlayerCountManager.format(players)).color(server.countColor())),
+                        EMPTY_COMPONENT,
+                        CLICK_TO_JOIN
+                ))
+                .set(HubItemAction.TAG, HubItemAction.CONNECT_SERVER)
+                .set(HubItemAction.TARGET_SERVER, server.name())
+                .build();
+    }
+
+    private static Component lore(String text) {
+        return Component.text(text).color(GRAY).decoration(TextDecoration.ITALIC, false);
+    }
+
+    public record ServerEntry(String name, Material material, TextColor color, TextColor countColor,
+                              String description, int slot) {
+    }
+}
@@ -11,7 +11,6 @@ import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
 import net.minestom.server.event.player.PlayerSpawnEvent;
 import net.minestom.server.event.player.PlayerDisconnectEvent;
 import mythic.hub.MythicHubServer;
-import mythic.hub.world.HubWorld;
 
 import java.time.Duration;
 
@@ -44,8 +43,8 @@ public class PlayerHandler {
         player.setFood(20);
         player.setFoodSaturation(20.0f);
 
-        // Teleport to spawn
-        player.teleport(HubWorld.getSpawnLocation());
+        // Teleport to the spawn point allocated during configuration
+        player.teleport(player.getRespawnPoint());
 
         // Give hub items
         HubItems.giveHubItems(player);
@@ -0,0 +1,75 @@
+package mythic.hub.handlers;
+
+import mythic.hub.managers.PlayerCountManager;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.inventory.Inventory;
+import net.minestom.server.inventory.InventoryType;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.util.List;
+
+/**
+ * The server selector, shared by every player on the hub.
+ *
+ * Opening it just adds a viewer. Once per second the displayed player counts are
+ * compared with the live counts and only slots whose count changed are replaced,
+ * which sends one slot update to everyone who has the menu open.
+ */
+public class ServerSelectorMenu {
+    private static final TextColor LIGHT_PINK = TextColor.color(255, 182, 193);
+
+    private final PlayerCountManager playerCounts;
+    private final Inventory inventory;
+    private final List<MenuItems.ServerEntry> servers = MenuItems.SERVERS;
+    // Count currently shown for each entry in servers
+    private final int[] displayedCounts;
+    private Task refreshTask;
+
+    public ServerSelectorMenu(PlayerCountManager playerCounts) {
+        this.playerCounts = playerCounts;
+        this.inventory = new Inventory(InventoryType.CHEST_3_ROW,
+                Component.text("Server Selector")
+                        .color(LIGHT_PINK)
+                        .decoration(TextDecoration.BOLD, true));
+        this.displayedCounts = new int[servers.size()];
+
+        for (int i = 0; i < servers.size(); i++) {
+            MenuItems.ServerEntry server = servers.get(i);
+            displayedCounts[i] = playerCounts.getPlayerCount(server.name());
+            inventory.setItemStack(server.slot(), MenuItems.serverItem(server, displayedCounts[i]));
+        }
+    }
+
+    public void start() {
+        refreshTask = MinecraftServer.getSchedulerManager()
+                .buildTask(this::refresh)
+                .repeat(TaskSchedule.seconds(1))
+                .schedule();
+    }
+
+    public void stop() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+        }
+    }
+
+    public void open(Player player) {
+        player.openInventory(inventory);
+    }
+
+    private void refresh() {
+        for (int i = 0; i < servers.size(); i++) {
+            MenuItems.ServerEntry server = servers.get(i);
+            int count = playerCounts.getPlayerCount(server.name());
+            if (count != displayedCounts[i]) {
+                displayedCounts[i] = count;
+                inventory.setItemStack(server.slot(), MenuItems.serverItem(server, count));
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package mythic.hub.integrations.radium;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A player's friends and pending requests with every name already resolved,
+ * loaded in one batch for the friends menu
+ */
+public record FriendsOverview(List<Entry> friends, List<Entry> incoming, List<Entry> outgoing) {
+    public static final FriendsOverview EMPTY = new FriendsOverview(List.of(), List.of(), List.of());
+
+    public record Entry(UUID uuid, String name) {
+    }
+}
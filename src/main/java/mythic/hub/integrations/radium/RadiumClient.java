@@ -3,6 +3,8 @@ package mythic.hub.integrations.radium;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import mythic.hub.database.RedisManager;
+import mythic.hub.database.RedisRpcClient;
+import mythic.hub.messaging.HubMessage;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
@@ -19,8 +21,11 @@ import java.util.stream.Collectors;
 public class RadiumClient {
     
     private final RedisManager redisManager;
+    private final RedisRpcClient rpcClient;
     private final LegacyComponentSerializer legacySerializer;
     
+    private static final String COMMAND_CHANNEL = "radium:command:execute";
+    
     // Cache for player profiles and ranks
     private final ConcurrentHashMap<UUID, RadiumProfile> profileCache = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, RadiumRank> rankCache = new ConcurrentHashMap<>();
@@ -35,8 +40,9 @@ public class RadiumClient {
     // Profile update subscription
     private boolean subscriptionInitialized = false;
     
-    public RadiumClient(RedisManager redisManager) {
+    public RadiumClient(RedisManager redisManager, RedisRpcClient rpcClient) {
         this.redisManager = redisManager;
+        this.rpcClient = rpcClient;
         this.legacySerializer = LegacyComponentSerializer.legacyAmpersand();
         
         // Initialize rank cache
@@ -183,7 +189,8 @@ public class RadiumClient {
                 // This matches the format used in Radium's ChatManager
                 Component prefixComponent = legacySerializer.deserialize(prefix);
                 Component nameComponent = legacySerializer.deserialize(chatColor + playerName);
-                Component messageComponent = legacySerializer.deserialize("&f: " + message);
+                // The message itself is plain text so players can't inject formatting codes
+                Component messageComponent = legacySerializer.deserialize("&f: ").append(Component.text(message));
                 
                 Component finalMessage = Component.empty()
                         .append(prefixComponent)
@@ -209,48 +216,63 @@ public class RadiumClient {
      * This matches Radium's TabListManager format: tab.player_format with prefix, player, color
      */
     public CompletableFuture<Component> getTabListDisplayName(UUID playerUuid, String playerName) {
-        return getPlayerHighestRank(playerUuid).thenApply(rank -> {
-            String prefix = rank.getPrefix();
-            String color = rank.getColor();
-            
-            // Use Radium's tab list format: {prefix}{color}{player}
-            Component prefixComponent = legacySerializer.deserialize(prefix);
-            Component nameComponent = legacySerializer.deserialize(color + playerName);
-            
-            return Component.empty()
-                    .append(prefixComponent)
-                    .append(nameComponent);
-        });
+        return getPlayerHighestRank(playerUuid).thenApply(rank -> formatTabListName(rank, playerName));
+    }
+    
+    /**
+     * Render a tab list name for an already resolved rank
+     */
+    public Component formatTabListName(RadiumRank rank, String playerName) {
+        // Use Radium's tab list format: {prefix}{color}{player}
+        Component prefixComponent = legacySerializer.deserialize(rank.getPrefix());
+        Component nameComponent = legacySerializer.deserialize(rank.getColor() + playerName);
+        
+        return Component.empty()
+                .append(prefixComponent)
+                .append(nameComponent);
     }
     
     /**
      * Check if a player has a specific permission
      */
     public CompletableFuture<Boolean> hasPermission(UUID playerUuid, String permission) {
-        return getPlayerProfile(playerUuid).thenApply(profile -> {
-            // Hardcoded check for owner "Expenses" - always has all permissions
-            if (profile != null && "Expenses".equalsIgnoreCase(getPlayerNameFromProfile(profile))) {
-                return true;
-            }
-            
-            // Check direct permissions
-            if (profile != null && profile.getPermissions().containsKey(permission) && 
-                profile.getPermissions().get(permission)) {
+        return getPlayerProfile(playerUuid).thenApply(profile -> profileHasPermission(profile, permission));
+    }
+    
+    /**
+     * Check a permission against the cached profile only, without touching Redis.
+     * Returns false when the player's profile has not been loaded yet.
+     */
+    public boolean hasCachedPermission(UUID playerUuid, String permission) {
+        return profileHasPermission(profileCache.get(playerUuid), permission);
+    }
+    
+    private boolean profileHasPermission(RadiumProfile profile, String permission) {
+        if (profile == null) {
+            return false;
+        }
+        
+        // Hardcoded check for owner "Expenses" - always has all permissions
+        // (the parsed profile already carries the username, no need to re-read it from Redis)
+        if ("Expenses".equalsIgnoreCase(profile.getUsername())) {
+            return true;
+        }
+        
+        // Check direct permissions
+        if (profile.getPermissions().containsKey(permission) && 
+            profile.getPermissions().get(permission)) {
+            return true;
+        }
+        
+        // Check rank permissions
+        for (String rankName : profile.getRanks()) {
+            RadiumRank rank = getRank(rankName);
+            if (rank != null && rank.hasPermission(permission)) {
                 return true;
             }
-            
-            // Check rank permissions
-            if (profile != null) {
-                for (String rankName : profile.getRanks()) {
-                    RadiumRank rank = getRank(rankName);
-                    if (rank != null && rank.hasPermission(permission)) {
-                        return true;
-                    }
-                }
-            }
-            
-            return false;
-        });
+        }
+        
+        return false;
     }
     
     /**
@@ -289,49 +311,27 @@ public class RadiumClient {
     }
     
     /**
-     * Helper method to get player name from profile
+     * Execute a command on the Radium proxy and wait for its reply
      */
-    private String getPlayerNameFromProfile(RadiumProfile profile) {
-        try {
-            // Try to get username from the profile's UUID by looking up in Redis
-            String key = "radium:profile:" + profile.getUuid().toString();
-            String profileJson = redisManager.get(key);
-            if (profileJson != null) {
-                JsonObject json = JsonParser.parseString(profileJson).getAsJsonObject();
-                if (json.has("username")) {
-                    return json.get("username").getAsString();
-                }
-            }
-            return null;
-        } catch (Exception e) {
-            System.err.println("Error getting player name from profile: " + e.getMessage());
-            return null;
-        }
+    public CompletableFuture<RedisRpcClient.Response> executeCommandOnProxy(String playerName, String command) {
+        return executeCommandOnProxy(playerName, command, false);
     }
     
-    /**
-     * Forward a command to Radium proxy for execution
-     */
-    public CompletableFuture<Boolean> forwardCommandToProxy(String playerName, String command) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String requestId = UUID.randomUUID().toString();
-                
-                JsonObject request = new JsonObject();
-                request.addProperty("player", playerName);
-                request.addProperty("command", command);
-                request.addProperty("requestId", requestId);
-                
-                // Publish to Redis channel
-                redisManager.publish("radium:command:execute", request.toString());
-                
-                System.out.println("Forwarded command to Radium: /" + command + " for player: " + playerName);
-                return true;
-                
-            } catch (Exception e) {
-                System.err.println("Error forwarding command to Radium: " + e.getMessage());
-                return false;
+    private CompletableFuture<RedisRpcClient.Response> executeCommandOnProxy(String playerName, String command, boolean batched) {
+        HubMessage.CommandExecute request = new HubMessage.CommandExecute(playerName, command);
+        
+        System.out.println("Forwarding command to Radium: /" + command + " for player: " + playerName);
+        
+        CompletableFuture<RedisRpcClient.Response> response = batched
+                ? rpcClient.requestBatched(COMMAND_CHANNEL, request)
+                : rpcClient.request(COMMAND_CHANNEL, request);
+        
+        return response.thenApply(result -> {
+            if (!result.isSuccess()) {
+                System.err.println("Radium command /" + command + " for " + playerName + " finished with " + 
+                                   result.getStatus() + (result.getMessage() != null ? ": " + result.getMessage() : ""));
             }
+            return result;
         });
     }
     
@@ -561,6 +561,74 @@ public class RadiumClient {
         });
     }
     
+    /**
+     * Loads a player's friends, incoming and outgoing requests and all of their names
+     * in two Redis round trips: one GET for the player's profile and one MGET for every
+     * referenced profile, however many friends the player has
+     * @param playerUuid The player's UUID
+     * @return The overview, empty if the player has no profile or on error
+     */
+    public CompletableFuture<FriendsOverview> getFriendsOverview(UUID playerUuid) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                String profileJson = redisManager.get("radium:profile:" + playerUuid);
+                if (profileJson == null) {
+                    return FriendsOverview.EMPTY;
+                }
+                JsonObject profile = JsonParser.parseString(profileJson).getAsJsonObject();
+                List<UUID> friends = uuidList(profile, "friends");
+                List<UUID> incoming = uuidList(profile, "incomingRequests");
+                List<UUID> outgoing = uuidList(profile, "outgoingRequests");
+                
+                // Resolve every name at once
+                LinkedHashSet<UUID> referenced = new LinkedHashSet<>(friends);
+                referenced.addAll(incoming);
+                referenced.addAll(outgoing);
+                String[] keys = referenced.stream().map(uuid -> "radium:profile:" + uuid).toArray(String[]::new);
+                List<String> profiles = redisManager.mget(keys);
+                
+                Map<UUID, String> names = new HashMap<>();
+                int i = 0;
+                for (UUID uuid : referenced) {
+                    String json = profiles.get(i++);
+                    if (json != null) {
+                        JsonObject referencedProfile = JsonParser.parseString(json).getAsJsonObject();
+                        if (referencedProfile.has("username")) {
+                            names.put(uuid, referencedProfile.get("username").getAsString());
+                        }
+                    }
+                }
+                
+                return new FriendsOverview(entries(friends, names), entries(incoming, names), entries(outgoing, names));
+            } catch (Exception e) {
+                System.err.println("Failed to load friends overview for " + playerUuid + ": " + e.getMessage());
+                return FriendsOverview.EMPTY;
+            }
+        });
+    }
+    
+    private static List<UUID> uuidList(JsonObject profile, String field) {
+        if (!profile.has(field)) {
+            return List.of();
+        }
+        return profile.getAsJsonArray(field).asList().stream()
+            .map(element -> UUID.fromString(element.getAsString()))
+            .collect(Collectors.toList());
+    }
+    
+    // Entries sorted by name; players without a resolvable name are left out as before
+    private static List<FriendsOverview.Entry> entries(List<UUID> uuids, Map<UUID, String> names) {
+        List<FriendsOverview.Entry> entries = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            String name = names.get(uuid);
+            if (name != null) {
+                entries.add(new FriendsOverview.Entry(uuid, name));
+            }
+        }
+        entries.sort(Comparator.comparing(FriendsOverview.Entry::name, String.CASE_INSENSITIVE_ORDER));
+        return entries;
+    }
+    
     /**
      * Checks if two players are friends in Radium
      * @param playerUuid The first player's UUID
@@ -598,9 +666,9 @@ public class RadiumClient {
      * @param playerName The sender's name
      * @param targetName The target player's name
      */
-    public CompletableFuture<Boolean> sendFriendRequest(String playerName, String targetName) {
+    public CompletableFuture<RedisRpcClient.Response> sendFriendRequest(String playerName, String targetName) {
         String command = "friend add " + targetName;
-        return forwardCommandToProxy(playerName, command);
+        return executeCommandOnProxy(playerName, command, true);
     }
     
     /**
@@ -608,9 +676,9 @@ public class RadiumClient {
      * @param playerName The sender's name
      * @param targetName The target player's name
      */
-    public CompletableFuture<Boolean> removeFriend(String playerName, String targetName) {
+    public CompletableFuture<RedisRpcClient.Response> removeFriend(String playerName, String targetName) {
         String command = "friend remove " + targetName;
-        return forwardCommandToProxy(playerName, command);
+        return executeCommandOnProxy(playerName, command, true);
     }
     
     /**
@@ -618,9 +686,9 @@ public class RadiumClient {
      * @param playerName The sender's name
      * @param targetName The target player's name
      */
-    public CompletableFuture<Boolean> denyFriendRequest(String playerName, String targetName) {
+    public CompletableFuture<RedisRpcClient.Response> denyFriendRequest(String playerName, String targetName) {
         String command = "friend deny " + targetName;
-        return forwardCommandToProxy(playerName, command);
+        return executeCommandOnProxy(playerName, command, true);
     }
     
     /**
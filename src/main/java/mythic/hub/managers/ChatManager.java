@@ -5,47 +5,76 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.player.PlayerChatEvent;
+import net.minestom.server.network.packet.server.play.SystemChatPacket;
+import net.minestom.server.utils.PacketUtils;
 import mythic.hub.MythicHubServer;
+import mythic.hub.chat.ChatStateStore;
 import mythic.hub.config.RankConfig;
 import mythic.hub.data.PlayerProfile;
+import mythic.hub.messaging.HubMessage;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ChatManager {
-    private final AtomicBoolean chatLocked = new AtomicBoolean(false);
+    // Lock state is shared with the other hubs; reads never leave memory
+    private final ChatStateStore stateStore;
+    private final RelationshipCache relationships;
     private final ConcurrentHashMap<Player, String> playerTags = new ConcurrentHashMap<>();
     
+    // Online players that see player chat (everyone except those who hid it)
+    private final Set<Player> chatAudience = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> chatHidden = ConcurrentHashMap.newKeySet();
+    // Who each player ignores, and the reverse index of online players ignoring each sender
+    private final ConcurrentHashMap<UUID, Set<UUID>> ignoredPlayers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Set<Player>> ignoredBy = new ConcurrentHashMap<>();
+    
+    public ChatManager(ChatStateStore stateStore, RelationshipCache relationships) {
+        this.stateStore = stateStore;
+        this.relationships = relationships;
+        stateStore.addListener(this::onStateChanged);
+    }
+    
     /**
-     * Locks the chat so only staff can type
+     * Locks the chat on every hub so only staff can type
      * @param lockedBy The staff member who locked the chat
      */
     public void lockChat(Player lockedBy) {
-        chatLocked.set(true);
-        
-        // Broadcast to all players
-        Component lockMessage = Component.text("Chat has been locked by ")
-            .color(NamedTextColor.RED)
-            .append(Component.text(lockedBy.getUsername()).color(NamedTextColor.YELLOW))
-            .append(Component.text("! Only staff can type.").color(NamedTextColor.RED));
-        
-        broadcastToAll(lockMessage);
+        stateStore.setLocked(true, lockedBy.getUsername());
     }
     
     /**
-     * Unlocks the chat
+     * Unlocks the chat on every hub
      * @param unlockedBy The staff member who unlocked the chat
      */
     public void unlockChat(Player unlockedBy) {
-        chatLocked.set(false);
-        
-        // Broadcast to all players
-        Component unlockMessage = Component.text("Chat has been unlocked by ")
-            .color(NamedTextColor.GREEN)
-            .append(Component.text(unlockedBy.getUsername()).color(NamedTextColor.YELLOW))
-            .append(Component.text("!").color(NamedTextColor.GREEN));
+        stateStore.setLocked(false, unlockedBy.getUsername());
+    }
+    
+    /**
+     * Announces lock changes made on any hub to this hub's players
+     */
+    private void onStateChanged(HubMessage.ChatState previous, HubMessage.ChatState current) {
+        if (previous.locked() == current.locked()) {
+            return;
+        }
         
-        broadcastToAll(unlockMessage);
+        String changedBy = current.lockChangedBy() != null ? current.lockChangedBy() : "staff";
+        if (current.locked()) {
+            broadcastToAll(Component.text("Chat has been locked by ")
+                .color(NamedTextColor.RED)
+                .append(Component.text(changedBy).color(NamedTextColor.YELLOW))
+                .append(Component.text("! Only staff can type.").color(NamedTextColor.RED)));
+        } else {
+            broadcastToAll(Component.text("Chat has been unlocked by ")
+                .color(NamedTextColor.GREEN)
+                .append(Component.text(changedBy).color(NamedTextColor.YELLOW))
+                .append(Component.text("!").color(NamedTextColor.GREEN)));
+        }
     }
     
     /**
@@ -98,12 +127,8 @@ public class ChatManager {
      * @return true if the player can send messages, false otherwise
      */
     public boolean canPlayerChat(Player player) {
-        if (!chatLocked.get()) {
-            return true; // Chat is not locked, everyone can chat
-        }
-        
-        // Chat is locked, check if player is staff
-        return isPlayerStaff(player);
+        // Both reads are in-memory; staff status is cached when the player joins
+        return !stateStore.current().locked() || relationships.isStaff(player.getUuid());
     }
     
     /**
@@ -111,53 +136,131 @@ public class ChatManager {
      * @return true if chat is locked, false otherwise
      */
     public boolean isChatLocked() {
-        return chatLocked.get();
+        return stateStore.current().locked();
+    }
+    
+    /**
+     * Broadcasts a message to all online players
+     * The packet is built once and serialized once for every recipient
+     * @param message The message to broadcast
+     */
+    public void broadcastToAll(Component message) {
+        PacketUtils.sendGroupedPacket(MinecraftServer.getConnectionManager().getOnlinePlayers(),
+                new SystemChatPacket(message, false));
     }
     
     /**
-     * Checks if a player has staff permissions
-     * @param player The player to check
-     * @return true if player is staff, false otherwise
+     * Broadcasts a player's chat line to everyone who has chat visible and is not ignoring them
+     * @param sender The player who sent the message
+     * @param message The formatted message
+     * @return The number of players the message was sent to
      */
-    private boolean isPlayerStaff(Player player) {
-        try {
-            // Check if player has staff permission or is the hardcoded operator
-            if ("Expenses".equalsIgnoreCase(player.getUsername())) {
-                return true; // Hardcoded operator - always has permissions
-            }
-            
-            // Check for staff permission using Radium (try username first, then UUID)
-            try {
-                // Try username-based check first (more reliable for hardcoded users)
-                Boolean usernameResult = mythic.hub.MythicHubServer.getInstance().getRadiumClient()
-                        .hasPermission(player.getUsername(), "mythic.staff")
-                        .get();
-                if (usernameResult != null && usernameResult) {
-                    return true;
+    public int broadcastChat(Player sender, Component message) {
+        Collection<Player> recipients = getChatRecipients(sender);
+        PacketUtils.sendGroupedPacket(recipients, new SystemChatPacket(message, false));
+        return recipients.size();
+    }
+    
+    /**
+     * Broadcasts a chat line relayed from another hub
+     * @param senderId The UUID of the player who sent the message on the other hub
+     * @param message The already formatted message
+     * @return The number of players the message was sent to
+     */
+    public int broadcastRemoteChat(UUID senderId, Component message) {
+        Set<Player> ignoring = ignoredBy.get(senderId);
+        Collection<Player> recipients = chatAudience;
+        if (ignoring != null && !ignoring.isEmpty()) {
+            List<Player> filtered = new ArrayList<>(chatAudience.size());
+            for (Player player : chatAudience) {
+                if (!ignoring.contains(player)) {
+                    filtered.add(player);
                 }
-                
-                // Fallback to UUID-based check
-                return mythic.hub.MythicHubServer.getInstance().getRadiumClient()
-                        .hasPermission(player.getUuid(), "mythic.staff")
-                        .get();
-            } catch (Exception e) {
-                System.err.println("Error checking staff permission via Radium: " + e.getMessage());
-                return false;
             }
-            
-        } catch (Exception e) {
-            System.err.println("Error checking staff status for " + player.getUsername() + ": " + e.getMessage());
+            recipients = filtered;
+        }
+        PacketUtils.sendGroupedPacket(recipients, new SystemChatPacket(message, false));
+        return recipients.size();
+    }
+    
+    /**
+     * Gets the players that should receive a chat line from the sender
+     * @param sender The player who sent the message
+     * @return The precomputed audience, copied only when someone online ignores the sender
+     */
+    public Collection<Player> getChatRecipients(Player sender) {
+        Set<Player> ignoring = ignoredBy.get(sender.getUuid());
+        boolean senderHidden = chatHidden.contains(sender.getUuid());
+        if ((ignoring == null || ignoring.isEmpty()) && !senderHidden) {
+            return chatAudience;
+        }
+        
+        List<Player> recipients = new ArrayList<>(chatAudience.size() + 1);
+        for (Player player : chatAudience) {
+            if (ignoring == null || !ignoring.contains(player)) {
+                recipients.add(player);
+            }
+        }
+        if (senderHidden) {
+            recipients.add(sender); // Always echo the sender's own message
+        }
+        return recipients;
+    }
+    
+    /**
+     * Toggles whether a player sees other players' chat
+     * @param player The player toggling their chat
+     * @return true if chat is now hidden for the player
+     */
+    public boolean toggleChatHidden(Player player) {
+        if (chatHidden.remove(player.getUuid())) {
+            chatAudience.add(player);
             return false;
         }
+        chatHidden.add(player.getUuid());
+        chatAudience.remove(player);
+        return true;
+    }
+    
+    public boolean isChatHidden(Player player) {
+        return chatHidden.contains(player.getUuid());
     }
     
     /**
-     * Broadcasts a message to all online players
-     * @param message The message to broadcast
+     * Toggles whether a player ignores another player's chat
+     * @param player The player doing the ignoring
+     * @param target The player to ignore or unignore
+     * @return true if the target is now ignored
      */
-    public void broadcastToAll(Component message) {
-        for (Player player : getAllOnlinePlayers()) {
-            player.sendMessage(message);
+    public boolean toggleIgnore(Player player, Player target) {
+        Set<UUID> ignored = ignoredPlayers.computeIfAbsent(player.getUuid(), uuid -> ConcurrentHashMap.newKeySet());
+        if (ignored.remove(target.getUuid())) {
+            Set<Player> ignoring = ignoredBy.get(target.getUuid());
+            if (ignoring != null) {
+                ignoring.remove(player);
+            }
+            return false;
+        }
+        ignored.add(target.getUuid());
+        ignoredBy.computeIfAbsent(target.getUuid(), uuid -> ConcurrentHashMap.newKeySet()).add(player);
+        return true;
+    }
+    
+    /**
+     * Adds a joining player to the chat audience
+     * @param player The player who joined
+     */
+    public void onPlayerJoin(Player player) {
+        if (!chatHidden.contains(player.getUuid())) {
+            chatAudience.add(player);
+        }
+        
+        // Restore this player into the reverse index of everyone they ignore
+        Set<UUID> ignored = ignoredPlayers.get(player.getUuid());
+        if (ignored != null) {
+            for (UUID target : ignored) {
+                ignoredBy.computeIfAbsent(target, uuid -> ConcurrentHashMap.newKeySet()).add(player);
+            }
         }
     }
     
@@ -167,6 +270,18 @@ public class ChatManager {
      */
     public void onPlayerDisconnect(Player player) {
         playerTags.remove(player);
+        chatAudience.remove(player);
+        
+        // Ignore lists are kept for the session; only drop the live Player references
+        Set<UUID> ignored = ignoredPlayers.get(player.getUuid());
+        if (ignored != null) {
+            for (UUID target : ignored) {
+                Set<Player> ignoring = ignoredBy.get(target);
+                if (ignoring != null) {
+                    ignoring.remove(player);
+                }
+            }
+        }
     }
     
     // Helper methods
@@ -179,9 +294,4 @@ public class ChatManager {
             return null;
         }
     }
-    
-    private Iterable<Player> getAllOnlinePlayers() {
-        // Get all online players from Minestom
-        return MinecraftServer.getConnectionManager().getOnlinePlayers();
-    }
 }
\ No newline at end of file
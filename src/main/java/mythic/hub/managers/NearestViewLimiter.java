@@ -0,0 +1,235 @@
+package mythic.hub.managers;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Caps how many other players each viewer tracks. Every viewer is allowed its friends and
+ * online staff first, then the nearest players, with higher ranks winning within the same
+ * {@link #CELL_SIZE}-block distance band, up to {@code limit} in total.
+ *
+ * Players are bucketed into a grid of square cells. Moving within a cell changes nothing;
+ * crossing into another cell marks both cells dirty, and {@link #recompute()} only
+ * re-selects for viewers within view range of a dirty cell. Viewers whose selection
+ * changed are returned so their viewer rule can be re-evaluated.
+ *
+ * Disabled when the limit is 0, in which case every player in range is tracked.
+ */
+class NearestViewLimiter {
+    private static final int CELL_SIZE = 8;
+
+    private final int limit;
+    private final int radiusCells;
+    private final RelationshipCache relationships;
+
+    private final Map<Long, Set<Player>> cells = new HashMap<>();
+    private final Map<Player, Long> playerCells = new HashMap<>();
+    private final Set<Long> dirtyCells = new HashSet<>();
+    private final Map<UUID, Integer> rankWeights = new ConcurrentHashMap<>();
+    // Read by viewer rules, which Minestom may evaluate off the tick thread
+    private final Map<UUID, Set<UUID>> selections = new ConcurrentHashMap<>();
+
+    NearestViewLimiter(int limit, RelationshipCache relationships) {
+        this.limit = limit;
+        this.relationships = relationships;
+        this.radiusCells = (ServerFlag.ENTITY_VIEW_DISTANCE * 16 + CELL_SIZE - 1) / CELL_SIZE;
+    }
+
+    boolean isEnabled() {
+        return limit > 0;
+    }
+
+    /**
+     * Whether the viewer's current selection includes the target
+     */
+    boolean allows(Player viewer, Player target) {
+        if (!isEnabled()) {
+            return true;
+        }
+        Set<UUID> selection = selections.get(viewer.getUuid());
+        return selection == null || selection.contains(target.getUuid());
+    }
+
+    synchronized void addPlayer(Player player, Point position) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long cell = cellOf(position);
+        cells.computeIfAbsent(cell, key -> new HashSet<>()).add(player);
+        playerCells.put(player, cell);
+        dirtyCells.add(cell);
+        // Select now so the joiner is capped from their very first spawn packets
+        selections.put(player.getUuid(), select(player, cell));
+    }
+
+    synchronized void removePlayer(Player player) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Long cell = playerCells.remove(player);
+        if (cell != null) {
+            removeFromCell(player, cell);
+            dirtyCells.add(cell); // Frees a slot for viewers around it
+        }
+        selections.remove(player.getUuid());
+        rankWeights.remove(player.getUuid());
+    }
+
+    synchronized void onMove(Player player, Point position) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Long previous = playerCells.get(player);
+        long cell = cellOf(position);
+        if (previous == null || previous == cell) {
+            return;
+        }
+
+        removeFromCell(player, previous);
+        cells.computeIfAbsent(cell, key -> new HashSet<>()).add(player);
+        playerCells.put(player, cell);
+        dirtyCells.add(previous);
+        dirtyCells.add(cell);
+    }
+
+    /**
+     * Record a player's highest rank weight; reselects around them only if it changed
+     */
+    synchronized void updateRank(Player player, int rankWeight) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Integer previous = rankWeights.put(player.getUuid(), rankWeight);
+        if (previous == null || previous != rankWeight) {
+            markDirty(player);
+        }
+    }
+
+    /**
+     * A player's friends or staff status changed; reselect around them
+     */
+    synchronized void refreshRelationships(Player player) {
+        if (isEnabled()) {
+            markDirty(player);
+        }
+    }
+
+    /**
+     * Reselect for every viewer in range of a dirty cell
+     * @return viewers whose selection changed
+     */
+    synchronized List<Player> recompute() {
+        if (!isEnabled() || dirtyCells.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Player> affected = new HashSet<>();
+        for (long dirty : dirtyCells) {
+            forEachNearbyCell(dirty, affected::addAll);
+        }
+        dirtyCells.clear();
+
+        List<Player> changed = new ArrayList<>();
+        for (Player viewer : affected) {
+            Long cell = playerCells.get(viewer);
+            if (cell == null) {
+                continue;
+            }
+            Set<UUID> selection = select(viewer, cell);
+            if (!selection.equals(selections.put(viewer.getUuid(), selection))) {
+                changed.add(viewer);
+            }
+        }
+        return changed;
+    }
+
+    private Set<UUID> select(Player viewer, long cell) {
+        Point origin = viewer.getPosition();
+        Comparator<Candidate> preference = Comparator
+                .comparing((Candidate candidate) -> !candidate.priority())
+                .thenComparingLong(candidate -> candidate.band())
+                .thenComparing(Comparator.comparingInt((Candidate candidate) -> candidate.rankWeight()).reversed())
+                .thenComparingDouble(candidate -> candidate.distanceSquared());
+
+        // Worst kept candidate on top, so each remaining one is compared against it once
+        PriorityQueue<Candidate> kept = new PriorityQueue<>(limit + 1, preference.reversed());
+        forEachNearbyCell(cell, players -> {
+            for (Player target : players) {
+                if (target == viewer) {
+                    continue;
+                }
+                double distanceSquared = origin.distanceSquared(target.getPosition());
+                kept.add(new Candidate(
+                        target.getUuid(),
+                        relationships.isStaff(target.getUuid()) || relationships.areFriends(viewer.getUuid(), target.getUuid()),
+                        (long) (Math.sqrt(distanceSquared) / CELL_SIZE),
+                        rankWeights.getOrDefault(target.getUuid(), 0),
+                        distanceSquared));
+                if (kept.size() > limit) {
+                    kept.poll();
+                }
+            }
+        });
+
+        Set<UUID> selection = new HashSet<>();
+        for (Candidate candidate : kept) {
+            selection.add(candidate.uuid());
+        }
+        return selection;
+    }
+
+    private void forEachNearbyCell(long cell, Consumer<Set<Player>> action) {
+        int cellX = (int) (cell >> 32);
+        int cellZ = (int) cell;
+        for (int x = cellX - radiusCells; x <= cellX + radiusCells; x++) {
+            for (int z = cellZ - radiusCells; z <= cellZ + radiusCells; z++) {
+                Set<Player> players = cells.get(cellKey(x, z));
+                if (players != null) {
+                    action.accept(players);
+                }
+            }
+        }
+    }
+
+    private void markDirty(Player player) {
+        Long cell = playerCells.get(player);
+        if (cell != null) {
+            dirtyCells.add(cell);
+        }
+    }
+
+    private void removeFromCell(Player player, long cell) {
+        Set<Player> players = cells.get(cell);
+        if (players != null && players.remove(player) && players.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    private static long cellOf(Point position) {
+        return cellKey(Math.floorDiv(position.blockX(), CELL_SIZE), Math.floorDiv(position.blockZ(), CELL_SIZE));
+    }
+
+    private static long cellKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private record Candidate(UUID uuid, boolean priority, long band, int rankWeight, double distanceSquared) {
+    }
+}
@@ -0,0 +1,59 @@
+package mythic.hub.managers;
+
+import mythic.hub.database.RedisManager;
+import mythic.hub.messaging.HubMessage;
+import mythic.hub.messaging.MessageCodec;
+import mythic.hub.messaging.MessageEnvelope;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live player counts of the network's servers, fed by the player_count messages every
+ * server publishes on {@code radium:player:count} (enveloped or the older bare
+ * {@code {server, playerCount}} form). Lookups are plain map reads.
+ */
+public class PlayerCountManager {
+    private static final String PLAYER_COUNT_CHANNEL = "radium:player:count";
+
+    // Returned for servers that have not reported a count yet
+    public static final int UNKNOWN = -1;
+
+    private final MessageCodec codec;
+    private final ConcurrentHashMap<String, Integer> counts = new ConcurrentHashMap<>();
+
+    public PlayerCountManager(RedisManager redisManager, MessageCodec codec) {
+        this.codec = codec;
+
+        redisManager.subscribe(PLAYER_COUNT_CHANNEL, (channel, message) -> {
+            if (PLAYER_COUNT_CHANNEL.equals(channel)) {
+                handleCount(message);
+            }
+        });
+    }
+
+    private void handleCount(String json) {
+        try {
+            MessageEnvelope envelope = codec.decode(json);
+            if (envelope.payload() instanceof HubMessage.PlayerCount count && count.server() != null) {
+                counts.put(count.server().toLowerCase(Locale.ROOT), count.playerCount());
+            }
+        } catch (Exception e) {
+            System.err.println("[PlayerCountManager] Failed to decode player count: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Latest reported player count for a server, or {@link #UNKNOWN}
+     */
+    public int getPlayerCount(String serverName) {
+        return counts.getOrDefault(serverName.toLowerCase(Locale.ROOT), UNKNOWN);
+    }
+
+    /**
+     * Text shown for a count; unreported servers show "?" rather than a made up number
+     */
+    public static String format(int count) {
+        return count == UNKNOWN ? "?" : String.valueOf(count);
+    }
+}
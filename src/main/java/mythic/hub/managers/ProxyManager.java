@@ -1,14 +1,12 @@
 package mythic.hub.managers;
 
-import com.google.gson.Gson;
 import mythic.hub.config.VelocityConfig;
 import mythic.hub.database.RedisManager;
+import mythic.hub.messaging.HubMessage;
+import mythic.hub.messaging.MessageCodec;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -16,17 +14,17 @@ import java.util.concurrent.TimeUnit;
 public class ProxyManager {
     private final RedisManager redisManager;
     private final VelocityConfig velocityConfig;
-    private final Gson gson;
+    private final MessageCodec codec;
     private final ScheduledExecutorService scheduler;
     
     private static final String PROXY_CHANNEL = "radium:proxy";
     private static final String SERVER_REGISTER_CHANNEL = "radium:server:register";
     private static final String PLAYER_COUNT_CHANNEL = "radium:player:count";
     
-    public ProxyManager(RedisManager redisManager, VelocityConfig velocityConfig) {
+    public ProxyManager(RedisManager redisManager, VelocityConfig velocityConfig, MessageCodec codec) {
         this.redisManager = redisManager;
         this.velocityConfig = velocityConfig;
-        this.gson = new Gson();
+        this.codec = codec;
         this.scheduler = Executors.newSingleThreadScheduledExecutor();
         
         if (velocityConfig.shouldRegisterWithProxy()) {
@@ -40,18 +38,11 @@ public class ProxyManager {
      */
     private void registerWithProxy() {
         try {
-            Map<String, Object> serverInfo = new HashMap<>();
-            serverInfo.put("name", velocityConfig.getServerName());
-            serverInfo.put("type", "hub");
-            serverInfo.put("host", "localhost");
-            serverInfo.put("port", 25566);
-            serverInfo.put("motd", "MythicHub - Lobby Server");
-            serverInfo.put("maxPlayers", 1000);
-            serverInfo.put("status", "online");
-            serverInfo.put("timestamp", System.currentTimeMillis());
+            HubMessage.ServerRegister serverInfo = new HubMessage.ServerRegister(
+                    velocityConfig.getServerName(), "hub", "localhost", 25566,
+                    "MythicHub - Lobby Server", 1000, "online");
             
-            String jsonData = gson.toJson(serverInfo);
-            redisManager.publish(SERVER_REGISTER_CHANNEL, jsonData);
+            redisManager.publish(SERVER_REGISTER_CHANNEL, codec.encode(serverInfo));
             
             System.out.println("Registered hub server with Radium proxy");
         } catch (Exception e) {
@@ -78,13 +69,8 @@ public class ProxyManager {
     private void updatePlayerCount() {
         int playerCount = MinecraftServer.getConnectionManager().getOnlinePlayers().size();
         
-        Map<String, Object> countData = new HashMap<>();
-        countData.put("server", velocityConfig.getServerName());
-        countData.put("playerCount", playerCount);
-        countData.put("timestamp", System.currentTimeMillis());
-        
-        String jsonData = gson.toJson(countData);
-        redisManager.publish(PLAYER_COUNT_CHANNEL, jsonData);
+        HubMessage.PlayerCount countData = new HubMessage.PlayerCount(velocityConfig.getServerName(), playerCount);
+        redisManager.publish(PLAYER_COUNT_CHANNEL, codec.encode(countData));
     }
 
     /**
@@ -92,16 +78,9 @@ public class ProxyManager {
      */
     public void sendPlayerToServer(Player player, String serverName) {
         try {
-            Map<String, Object> transferData = new HashMap<>();
-            transferData.put("type", "player_transfer");
-            transferData.put("player", player.getUuid().toString());
-            transferData.put("playerName", player.getUsername());
-            transferData.put("fromServer", velocityConfig.getServerName());
-            transferData.put("toServer", serverName);
-            transferData.put("timestamp", System.currentTimeMillis());
-            
-            String jsonData = gson.toJson(transferData);
-            redisManager.publish(PROXY_CHANNEL, jsonData);
+            HubMessage.PlayerTransfer transferData = new HubMessage.PlayerTransfer(
+                    player.getUuid(), player.getUsername(), velocityConfig.getServerName(), serverName);
+            redisManager.publish(PROXY_CHANNEL, codec.encode(transferData));
             
             // Kick player with transfer message
             player.kick(net.kyori.adventure.text.Component.text("Transferring to " + serverName + "..."));
@@ -116,14 +95,8 @@ public class ProxyManager {
      */
     public void sendGlobalMessage(String message) {
         try {
-            Map<String, Object> messageData = new HashMap<>();
-            messageData.put("type", "global_message");
-            messageData.put("message", message);
-            messageData.put("fromServer", velocityConfig.getServerName());
-            messageData.put("timestamp", System.currentTimeMillis());
-            
-            String jsonData = gson.toJson(messageData);
-            redisManager.publish(PROXY_CHANNEL, jsonData);
+            HubMessage.GlobalMessage messageData = new HubMessage.GlobalMessage(message, velocityConfig.getServerName());
+            redisManager.publish(PROXY_CHANNEL, codec.encode(messageData));
             
         } catch (Exception e) {
             System.err.println("Failed to send global message: " + e.getMessage());
@@ -135,13 +108,8 @@ public class ProxyManager {
      */
     public void requestServerList() {
         try {
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("type", "server_list_request");
-            requestData.put("fromServer", velocityConfig.getServerName());
-            requestData.put("timestamp", System.currentTimeMillis());
-            
-            String jsonData = gson.toJson(requestData);
-            redisManager.publish(PROXY_CHANNEL, jsonData);
+            HubMessage.ServerListRequest requestData = new HubMessage.ServerListRequest(velocityConfig.getServerName());
+            redisManager.publish(PROXY_CHANNEL, codec.encode(requestData));
             
         } catch (Exception e) {
             System.err.println("Failed to request server list: " + e.getMessage());
@@ -153,13 +121,8 @@ public class ProxyManager {
      */
     public void unregisterFromProxy() {
         try {
-            Map<String, Object> unregisterData = new HashMap<>();
-            unregisterData.put("type", "server_unregister");
-            unregisterData.put("server", velocityConfig.getServerName());
-            unregisterData.put("timestamp", System.currentTimeMillis());
-            
-            String jsonData = gson.toJson(unregisterData);
-            redisManager.publish(PROXY_CHANNEL, jsonData);
+            HubMessage.ServerUnregister unregisterData = new HubMessage.ServerUnregister(velocityConfig.getServerName());
+            redisManager.publish(PROXY_CHANNEL, codec.encode(unregisterData));
             
             System.out.println("Unregistered from Radium proxy");
         } catch (Exception e) {
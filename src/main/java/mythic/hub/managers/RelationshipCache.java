@@ -0,0 +1,74 @@
+package mythic.hub.managers;
+
+import mythic.hub.integrations.radium.RadiumClient;
+import net.minestom.server.entity.Player;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Friends and staff status of the players online on this hub.
+ * Loaded once when a player joins and dropped when they leave, so hot paths
+ * (tab list, chat, visibility) can answer "are these two friends?" without Redis lookups.
+ */
+public class RelationshipCache {
+    public static final String STAFF_PERMISSION = "mythic.staff";
+
+    private final RadiumClient radiumClient;
+    private final ConcurrentHashMap<UUID, CompletableFuture<Set<UUID>>> friends = new ConcurrentHashMap<>();
+    private final Set<UUID> staff = ConcurrentHashMap.newKeySet();
+
+    public RelationshipCache(RadiumClient radiumClient) {
+        this.radiumClient = radiumClient;
+    }
+
+    /**
+     * Load a player's friends and staff status. Repeated calls return the same future.
+     */
+    public CompletableFuture<Set<UUID>> load(Player player) {
+        return friends.computeIfAbsent(player.getUuid(), uuid -> {
+            CompletableFuture<Void> profile = radiumClient.getPlayerProfile(uuid)
+                    .thenAccept(loaded -> refreshStaff(player));
+            return radiumClient.getFriends(uuid)
+                    .exceptionally(throwable -> Set.of())
+                    .thenCombine(profile.exceptionally(throwable -> null), (friendSet, ignored) -> friendSet);
+        });
+    }
+
+    public void unload(Player player) {
+        friends.remove(player.getUuid());
+        staff.remove(player.getUuid());
+    }
+
+    /**
+     * Re-evaluate staff status from the cached profile
+     * @return true if the player's staff status changed
+     */
+    public boolean refreshStaff(Player player) {
+        if (!player.isOnline()) {
+            return false; // Profile finished loading after the player left
+        }
+
+        boolean isStaff = "Expenses".equalsIgnoreCase(player.getUsername())
+                || radiumClient.hasCachedPermission(player.getUuid(), STAFF_PERMISSION);
+        return isStaff ? staff.add(player.getUuid()) : staff.remove(player.getUuid());
+    }
+
+    public boolean isStaff(UUID playerUuid) {
+        return staff.contains(playerUuid);
+    }
+
+    /**
+     * Friends of an online player, or an empty set while they are still loading
+     */
+    public Set<UUID> getFriends(UUID playerUuid) {
+        CompletableFuture<Set<UUID>> future = friends.get(playerUuid);
+        return future != null ? future.getNow(Set.of()) : Set.of();
+    }
+
+    public boolean areFriends(UUID first, UUID second) {
+        return getFriends(first).contains(second) || getFriends(second).contains(first);
+    }
+}
@@ -11,10 +11,11 @@ import net.minestom.server.scoreboard.Sidebar;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ScoreboardManager {
-    private final ConcurrentHashMap<Player, Sidebar> playerScoreboards = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Player, PlayerSidebar> playerScoreboards = new ConcurrentHashMap<>();
     private static final TextColor LIGHT_PINK = TextColor.color(255, 182, 193);
     private static final TextColor WHITE = NamedTextColor.WHITE;
     private static final TextColor GRAY = NamedTextColor.GRAY;
@@ -26,188 +27,173 @@ public class ScoreboardManager {
     private static final TextColor DARK_GREEN = NamedTextColor.DARK_GREEN;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM dd, yyyy");
 
+    // Line IDs in display order - LOWER line numbers appear HIGHER on the scoreboard,
+    // so index 0 (line 1) is the bottom line
+    private static final String[] LINE_IDS = {
+        "server_ip", "date", "empty1", "skyblock", "gens", "prison",
+        "servers_header", "empty2", "current_server", "player_name",
+        "info_header", "empty3", "lobby_server"
+    };
+
+    private static final int PLAYER_NAME_INDEX = 9;
+
+    // Title: (LightPink)Mythic(White)PvP
+    private static final Component TITLE = Component.text("Mythic")
+            .color(LIGHT_PINK)
+            .append(Component.text("PvP").color(WHITE));
+
+    // Shared lines rendered once per refresh and reused by every sidebar;
+    // the player_name slot is null because it is the only per-player line
+    private volatile Component[] template = renderTemplate();
+
     public void createScoreboard(Player player) {
-        // Create title: (LightPink)Mythic(White)PvP
-        Component title = Component.text("Mythic")
-                .color(LIGHT_PINK)
-                .append(Component.text("PvP").color(WHITE));
+        Sidebar sidebar = new Sidebar(TITLE);
 
-        Sidebar sidebar = new Sidebar(title);
+        // Create every line once; later refreshes only touch lines whose shared content changed
+        Component[] shared = template;
+        for (int i = 0; i < LINE_IDS.length; i++) {
+            Component content = i == PLAYER_NAME_INDEX ? renderPlayerLine(player) : shared[i];
+            sidebar.createLine(new Sidebar.ScoreboardLine(LINE_IDS[i], content, i + 1));
+        }
 
-        updateScoreboard(sidebar, player);
         sidebar.addViewer(player);
-        playerScoreboards.put(player, sidebar);
+        playerScoreboards.put(player, new PlayerSidebar(sidebar, shared));
+    }
+
+    /**
+     * Render the shared template once and push only the changed lines to each sidebar
+     */
+    public void updateAllScoreboards() {
+        Component[] previous = template;
+        Component[] current = renderTemplate();
+        template = current;
+
+        // Diff once against the previous template; every sidebar built from it needs the same lines
+        int[] changed = changedLines(previous, current);
+
+        for (PlayerSidebar playerSidebar : playerScoreboards.values()) {
+            if (playerSidebar.template == current) {
+                continue;
+            }
+            // A sidebar created during this refresh may still hold an older template
+            int[] lines = playerSidebar.template == previous ? changed : changedLines(playerSidebar.template, current);
+            for (int i : lines) {
+                playerSidebar.sidebar.updateLineContent(LINE_IDS[i], current[i]);
+            }
+            playerSidebar.template = current;
+        }
     }
 
-    public void updateScoreboard(Sidebar sidebar, Player player) {
+    private static int[] changedLines(Component[] from, Component[] to) {
+        int[] changed = new int[to.length];
+        int count = 0;
+        for (int i = 0; i < to.length; i++) {
+            if (i != PLAYER_NAME_INDEX && !to[i].equals(from[i])) {
+                changed[count++] = i;
+            }
+        }
+        return Arrays.copyOf(changed, count);
+    }
+
+    private Component renderPlayerLine(Player player) {
+        // Player name: (space)(white)▌ (grey)Player: (player name in white)
+        return Component.text(" ▌ ").color(WHITE)
+                .append(Component.text("Player: ").color(GRAY))
+                .append(Component.text(player.getUsername()).color(WHITE));
+    }
+
+    private Component[] renderTemplate() {
         // Get current server name
         String currentServer = "Hub"; // Default
-        ServerManager serverManager = MythicHubServer.getInstance().getServerManager();
+        MythicHubServer server = MythicHubServer.getInstance();
+        ServerManager serverManager = server != null ? server.getServerManager() : null;
         if (serverManager != null) {
             currentServer = serverManager.getCurrentServerName();
         }
 
-        // Get server player counts (mock data for now - you'll need to implement actual server communication)
-        int prisonPlayers = getServerPlayerCount("Prison");
-        int gensPlayers = getServerPlayerCount("Gens");
-        int skyblockPlayers = getServerPlayerCount("Skyblock");
+        // Live player counts; "?" until a server has reported
+        String prisonPlayers = PlayerCountManager.format(getServerPlayerCount("Prison"));
+        String gensPlayers = PlayerCountManager.format(getServerPlayerCount("Gens"));
+        String skyblockPlayers = PlayerCountManager.format(getServerPlayerCount("Skyblock"));
 
         // Get current date
         String currentDate = LocalDate.now().format(DATE_FORMATTER);
 
-        // Build scoreboard content - LOWER line numbers appear HIGHER on the scoreboard
-        int lineNumber = 1;
-
-        // Server IP (bottom line) - light pink: play.mythicpvp.net
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "server_ip",
+        return new Component[] {
+                // Server IP (bottom line) - light pink: play.mythicpvp.net
                 Component.text("play.mythicpvp.net").color(LIGHT_PINK),
-                lineNumber++
-        ));
 
-        // Today's date - white (second to last line)
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "date",
+                // Today's date - white (second to last line)
                 Component.text(currentDate).color(WHITE),
-                lineNumber++
-        ));
 
-        // Empty line
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "empty1",
+                // Empty line
                 Component.empty(),
-                lineNumber++
-        ));
 
-        // Skyblock server: (space)(white)▌ (Light green)Skyblock (dark green) [players]
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "skyblock",
+                // Skyblock server: (space)(white)▌ (Light green)Skyblock (dark green) [players]
                 Component.text(" ▌ ").color(WHITE)
                         .append(Component.text("Skyblock ").color(LIGHT_GREEN))
                         .append(Component.text("[" + skyblockPlayers + "]").color(DARK_GREEN)),
-                lineNumber++
-        ));
 
-        // Gens server: (space)(white)▌ (light red)Gens (dark red) [players]  
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "gens",
+                // Gens server: (space)(white)▌ (light red)Gens (dark red) [players]
                 Component.text(" ▌ ").color(WHITE)
                         .append(Component.text("Gens ").color(NamedTextColor.RED))
                         .append(Component.text("[" + gensPlayers + "]").color(DARK_RED)),
-                lineNumber++
-        ));
 
-        // Prison server: (space)(white)▌ (Light Blue)Prison (darkblue) [players]
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "prison",
+                // Prison server: (space)(white)▌ (Light Blue)Prison (darkblue) [players]
                 Component.text(" ▌ ").color(WHITE)
                         .append(Component.text("Prison ").color(LIGHT_BLUE))
                         .append(Component.text("[" + prisonPlayers + "]").color(DARK_BLUE)),
-                lineNumber++
-        ));
 
-        // Servers header: (space)(white)▌ (lightpink)Servers
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "servers_header",
+                // Servers header: (space)(white)▌ (lightpink)Servers
                 Component.text(" ▌ ").color(WHITE)
                         .append(Component.text("Servers").color(LIGHT_PINK)),
-                lineNumber++
-        ));
 
-        // Empty line
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "empty2",
+                // Empty line
                 Component.empty(),
-                lineNumber++
-        ));
 
-        // Current server info: (space)(white)▌ (grey)Server: (current server in white)
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "current_server",
+                // Current server info: (space)(white)▌ (grey)Server: (current server in white)
                 Component.text(" ▌ ").color(WHITE)
                         .append(Component.text("Server: ").color(GRAY))
                         .append(Component.text(currentServer).color(WHITE)),
-                lineNumber++
-        ));
 
-        // Player name: (space)(white)▌ (grey)Player: (player name in white)
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "player_name",
-                Component.text(" ▌ ").color(WHITE)
-                        .append(Component.text("Player: ").color(GRAY))
-                        .append(Component.text(player.getUsername()).color(WHITE)),
-                lineNumber++
-        ));
-
-        // Information header: (space)(white)▌ (lightpink)Information
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "info_header",
+                // Player name is filled in per player
+                null,
+
+                // Information header: (space)(white)▌ (lightpink)Information
                 Component.text(" ▌ ").color(WHITE)
                         .append(Component.text("Information").color(LIGHT_PINK)),
-                lineNumber++
-        ));
 
-        // Empty line
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "empty3",
+                // Empty line
                 Component.empty(),
-                lineNumber++
-        ));
-
-        // Lobby Server (right under title, perfectly centered) - grey
-        sidebar.createLine(new Sidebar.ScoreboardLine(
-                "lobby_server",
-                Component.text("      Lobby Server      ").color(GRAY),
-                lineNumber++
-        ));
-    }
 
-    private int getServerPlayerCount(String serverName) {
-        // Mock implementation - replace with actual server communication
-        // You'll need to implement Redis communication or BungeeCord plugin messaging
-        // to get real player counts from other servers
-        switch (serverName.toLowerCase()) {
-            case "prison":
-                return 42; // Mock data
-            case "gens":
-                return 28; // Mock data
-            case "skyblock":
-                return 35; // Mock data
-            default:
-                return 0;
-        }
+                // Lobby Server (right under title, perfectly centered) - grey
+                Component.text("      Lobby Server      ").color(GRAY)
+        };
     }
 
-    public void updateAllScoreboards() {
-        playerScoreboards.forEach((player, sidebar) -> {
-            // Remove all existing lines first
-            removeAllLines(sidebar);
-            // Then update with new content
-            updateScoreboard(sidebar, player);
-        });
+    private int getServerPlayerCount(String serverName) {
+        MythicHubServer server = MythicHubServer.getInstance();
+        PlayerCountManager playerCounts = server != null ? server.getPlayerCountManager() : null;
+        return playerCounts != null ? playerCounts.getPlayerCount(serverName) : PlayerCountManager.UNKNOWN;
     }
 
-    private void removeAllLines(Sidebar sidebar) {
-        // Remove lines by their IDs
-        String[] lineIds = {
-            "server_ip", "date", "empty1", "skyblock", "gens", "prison", 
-            "servers_header", "empty2", "current_server", "player_name", 
-            "info_header", "empty3", "lobby_server"
-        };
-        
-        for (String lineId : lineIds) {
-            try {
-                sidebar.removeLine(lineId);
-            } catch (Exception e) {
-                // Ignore if line doesn't exist
-            }
+    public void removeScoreboard(Player player) {
+        PlayerSidebar playerSidebar = playerScoreboards.remove(player);
+        if (playerSidebar != null) {
+            playerSidebar.sidebar.removeViewer(player);
         }
     }
 
-    public void removeScoreboard(Player player) {
-        Sidebar sidebar = playerScoreboards.remove(player);
-        if (sidebar != null) {
-            sidebar.removeViewer(player);
+    /**
+     * A player's sidebar and the shared template it currently shows
+     */
+    private static class PlayerSidebar {
+        private final Sidebar sidebar;
+        private Component[] template;
+
+        private PlayerSidebar(Sidebar sidebar, Component[] template) {
+            this.sidebar = sidebar;
+            this.template = template;
         }
     }
-}
\ No newline at end of file
+}
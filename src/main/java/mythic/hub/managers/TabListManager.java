@@ -2,9 +2,8 @@ package mythic.hub.managers;
 
 import mythic.hub.MythicHubServer;
 import mythic.hub.integrations.radium.RadiumClient;
-import mythic.hub.integrations.radium.RadiumProfile;
-import mythic.hub.integrations.radium.RadiumRank;
 import mythic.hub.integrations.radium.RadiumRank;
+import mythic.hub.metrics.TickMonitor;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
@@ -13,9 +12,15 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.server.play.PlayerInfoUpdatePacket;
 import net.minestom.server.network.packet.server.play.PlayerListHeaderAndFooterPacket;
+import net.minestom.server.scoreboard.Team;
+import net.minestom.server.utils.PacketUtils;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class TabListManager {
@@ -24,36 +29,76 @@ public class TabListManager {
     private final TextColor GRAY = NamedTextColor.GRAY;
     private final TextColor DARK_GRAY = NamedTextColor.DARK_GRAY;
     
+    private static final int PING_BUCKET_MS = 25;
+    private static final int MAX_SORT_WEIGHT = 999;
+
+    // Last display name sent to every client for each online player
     private final ConcurrentHashMap<Player, Component> playerDisplayNames = new ConcurrentHashMap<>();
+    // One sort team per rank, created the first time a player with that rank is seen
+    private final ConcurrentHashMap<String, Team> sortTeams = new ConcurrentHashMap<>();
+    // Shared footer version and ping bucket each player's current header/footer was built from
+    private final ConcurrentHashMap<Player, FooterState> sentFooters = new ConcurrentHashMap<>();
+
+    private final RelationshipCache relationships;
+
+    // Header is identical for every player and never changes
+    private final Component header = renderHeader();
+    // Everything in the footer except the ping value, re-rendered only when its inputs change
+    private volatile SharedFooter sharedFooter = renderSharedFooter(null);
+
+    public TabListManager(RelationshipCache relationships) {
+        this.relationships = relationships;
+    }
 
+    /**
+     * Bring a joining player's tab list up to date: one bulk snapshot of everyone's
+     * display name for the joiner, then a single-entry delta for the joiner's own name
+     */
     public void updateTabList(Player player) {
-        // Update header and footer
-        updateHeaderFooter(player);
-        
-        // Update player display name
-        updatePlayerDisplayName(player);
-        
-        // Update all other players' display names for this player
-        updateAllPlayerDisplayNames(player);
+        SharedFooter shared = sharedFooter;
+        FooterState state = new FooterState(shared.version, pingBucket(player.getLatency()));
+        sentFooters.put(player, state);
+        player.sendPacket(headerFooterPacket(shared, state));
+
+        sendDisplayNameSnapshot(player);
+        refreshDisplayName(player);
     }
 
+    /**
+     * Periodic refresh: header/footer only for players whose shared footer or ping bucket
+     * changed, display names only where the rank rendering changed
+     */
     public void updateAllTabLists() {
-        MinecraftServer.getConnectionManager().getOnlinePlayers().forEach(this::updateTabList);
+        updateHeaderFooters();
+        for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
+            refreshDisplayName(player);
+        }
+    }
+
+    private void updateHeaderFooters() {
+        SharedFooter shared = renderSharedFooter(sharedFooter);
+        sharedFooter = shared;
+
+        // Group the players that need a new packet by footer state so each distinct
+        // header/footer is built and serialized once
+        Map<FooterState, List<Player>> pendingByState = new HashMap<>();
+        for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
+            FooterState state = new FooterState(shared.version, pingBucket(player.getLatency()));
+            if (!state.equals(sentFooters.put(player, state))) {
+                pendingByState.computeIfAbsent(state, key -> new ArrayList<>()).add(player);
+            }
+        }
+
+        pendingByState.forEach((state, players) ->
+                PacketUtils.sendGroupedPacket(players, headerFooterPacket(shared, state)));
     }
 
-    private void updateHeaderFooter(Player player) {
+    private Component renderHeader() {
         // Get server name from system properties or default
         String serverName = System.getProperty("server.name", "Hub-1");
-        
-        // Calculate values for footer
-        int currentServerPlayers = MinecraftServer.getConnectionManager().getOnlinePlayers().size();
-        int globalPlayers = getGlobalPlayerCount(); // You'll need to implement this
-        int hubPlayers = getHubPlayerCount(); // You'll need to implement this
-        int playerPing = player.getLatency();
-        double serverTps = getServerTps(); // You'll need to implement this
-        
+
         // Header - final positioning adjustments
-        Component header = Component.text()
+        return Component.text()
                 .append(Component.text("     ").append(Component.text("MYTHIC").color(LIGHT_PINK).decorate(TextDecoration.BOLD))
                         .append(Component.text("PVP").color(WHITE).decorate(TextDecoration.BOLD)))
                 .append(Component.newline())
@@ -63,143 +108,168 @@ public class TabListManager {
                 .append(Component.newline())
                 .append(Component.text("      ").append(Component.text("play.mythicpvp.net").color(GRAY)))
                 .build();
+    }
+
+    /**
+     * Render the player-independent part of the footer, keeping the previous version
+     * when none of its inputs changed
+     */
+    private SharedFooter renderSharedFooter(SharedFooter previous) {
+        // Calculate values for footer
+        int globalPlayers = getGlobalPlayerCount(); // You'll need to implement this
+        int hubPlayers = getHubPlayerCount(); // You'll need to implement this
+        String serverTps = String.format("%.1f", getServerTps()); // You'll need to implement this
+
+        String key = serverTps + "|" + globalPlayers + "|" + hubPlayers;
+        if (previous != null && previous.key.equals(key)) {
+            return previous;
+        }
+
+        Component afterPing = Component.text(" * ").color(DARK_GRAY)
+                .append(Component.text("TPS: ").color(LIGHT_PINK))
+                .append(Component.text(serverTps).color(WHITE))
+                .append(Component.text(" * ").color(DARK_GRAY))
+                .append(Component.text("store.mythicpvp.net").color(LIGHT_PINK));
 
         // Footer - updated hub player text
+        Component secondLine = Component.text(String.valueOf(globalPlayers)).color(LIGHT_PINK)
+                .append(Component.text(" Global").color(WHITE))
+                .append(Component.text(" (" + hubPlayers + " on all hubs)").color(GRAY));
+
+        return new SharedFooter(previous != null ? previous.version + 1 : 0, key, afterPing, secondLine);
+    }
+
+    private PlayerListHeaderAndFooterPacket headerFooterPacket(SharedFooter shared, FooterState state) {
         Component footer = Component.text()
                 .append(Component.text("Ping: ").color(LIGHT_PINK)
-                        .append(Component.text(playerPing + "ms").color(WHITE))
-                        .append(Component.text(" * ").color(DARK_GRAY))
-                        .append(Component.text("TPS: ").color(LIGHT_PINK))
-                        .append(Component.text(String.format("%.1f", serverTps)).color(WHITE))
-                        .append(Component.text(" * ").color(DARK_GRAY))
-                        .append(Component.text("store.mythicpvp.net").color(LIGHT_PINK)))
+                        .append(Component.text(state.pingBucket() + "ms").color(WHITE))
+                        .append(shared.afterPing))
                 .append(Component.newline())
-                .append(Component.text(String.valueOf(globalPlayers)).color(LIGHT_PINK)
-                        .append(Component.text(" Global").color(WHITE))
-                        .append(Component.text(" (" + hubPlayers + " on all hubs)").color(GRAY)))
+                .append(shared.secondLine)
                 .build();
 
-        player.sendPacket(new PlayerListHeaderAndFooterPacket(header, footer));
+        return new PlayerListHeaderAndFooterPacket(header, footer);
     }
 
-    private void updatePlayerDisplayName(Player player) {
-        Component displayName = getPlayerRankAndName(player);
-        playerDisplayNames.put(player, displayName);
-        player.setDisplayName(displayName);
-        
-        // Create player info update packet to update display name for all players
-        PlayerInfoUpdatePacket.Entry entry = new PlayerInfoUpdatePacket.Entry(
-                player.getUuid(),
-                player.getUsername(),
-                List.of(), // properties
-                player.isOnline(), // listed
-                player.getLatency(), // latency
-                player.getGameMode(), // game mode
-                displayName, // display name
-                null // chat session
-        );
-        
-        PlayerInfoUpdatePacket packet = new PlayerInfoUpdatePacket(
-                EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME),
-                List.of(entry)
-        );
-        
-        // Send to all online players
-        MinecraftServer.getConnectionManager().getOnlinePlayers().forEach(onlinePlayer -> {
-            onlinePlayer.sendPacket(packet);
-        });
+    private static int pingBucket(int latency) {
+        return Math.round(latency / (float) PING_BUCKET_MS) * PING_BUCKET_MS;
     }
 
-    private void updateAllPlayerDisplayNames(Player viewer) {
-        // Create a batch update for all players' display names
-        List<PlayerInfoUpdatePacket.Entry> entries = MinecraftServer.getConnectionManager()
-                .getOnlinePlayers()
-                .stream()
-                .filter(p -> !p.equals(viewer))
-                .map(p -> {
-                    Component displayName = playerDisplayNames.get(p);
-                    if (displayName == null) {
-                        displayName = getPlayerRankAndName(p);
-                        playerDisplayNames.put(p, displayName);
-                    }
-                    
-                    return new PlayerInfoUpdatePacket.Entry(
-                            p.getUuid(),
-                            p.getUsername(),
-                            List.of(), // properties
-                            p.isOnline(), // listed
-                            p.getLatency(), // latency
-                            p.getGameMode(), // game mode
-                            displayName, // display name
-                            null // chat session
-                    );
-                })
-                .toList();
-        
+    private void sendDisplayNameSnapshot(Player viewer) {
+        List<PlayerInfoUpdatePacket.Entry> entries = new ArrayList<>();
+        playerDisplayNames.forEach((player, displayName) -> {
+            if (!player.equals(viewer)) {
+                entries.add(displayNameEntry(player, displayName));
+            }
+        });
+
         if (!entries.isEmpty()) {
-            PlayerInfoUpdatePacket packet = new PlayerInfoUpdatePacket(
+            viewer.sendPacket(new PlayerInfoUpdatePacket(
                     EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME),
                     entries
-            );
-            
-            viewer.sendPacket(packet);
+            ));
         }
     }
 
-    private Component getPlayerRankAndName(Player player) {
-        RadiumClient radiumClient = MythicHubServer.getInstance().getRadiumClient();
-        
-        try {
-            // Get player profile from Radium asynchronously
-            RadiumProfile profile = radiumClient.getPlayerProfile(player.getUuid()).get();
-            
-            if (profile != null && !profile.getRanks().isEmpty()) {
-                // Get the highest priority rank using the new method
-                RadiumRank rank = profile.getHighestRank(radiumClient);
-                if (rank != null && !rank.getName().equalsIgnoreCase("default") && !rank.getName().equalsIgnoreCase("member")) {
-                    // Use Radium's formatting for tablist display
-                    Component formattedName = radiumClient.getTabListDisplayName(player.getUuid(), player.getUsername()).get();
-                    return formattedName;
-                }
+    /**
+     * Resolve a player's display name without blocking and broadcast it if it changed
+     */
+    public void refreshDisplayName(Player player) {
+        resolveRank(player).thenAccept(rank -> {
+            if (!player.isOnline()) {
+                return;
             }
-        } catch (Exception e) {
-            System.err.println("Error getting player rank from Radium for tablist: " + e.getMessage());
-        }
-        
-        // Default display (no prefix for default/member ranks)
-        return Component.text(player.getUsername()).color(GRAY);
-    }
 
-    public void removePlayer(Player player) {
-        playerDisplayNames.remove(player);
+            updateSortTeam(player, rank);
+            boolean staffChanged = relationships.refreshStaff(player);
+            int weight = rank != null ? rank.getWeight() : 0;
+            VisibilityManager visibility = MythicHubServer.getInstance().getVisibilityManager();
+            visibility.updateRank(player, weight);
+            if (staffChanged) {
+                visibility.refreshRelationships(player);
+            }
+
+            Component displayName = renderDisplayName(player, rank);
+
+            Component previous = playerDisplayNames.put(player, displayName);
+            if (displayName.equals(previous)) {
+                return; // Rank rendering unchanged, nothing to send
+            }
+
+            PlayerInfoUpdatePacket packet = new PlayerInfoUpdatePacket(
+                    PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME,
+                    displayNameEntry(player, displayName)
+            );
+            PacketUtils.sendGroupedPacket(MinecraftServer.getConnectionManager().getOnlinePlayers(), packet);
+        });
     }
 
-    public void updateSinglePlayerDisplay(Player player) {
-        Component displayName = getPlayerRankAndName(player);
-        playerDisplayNames.put(player, displayName);
-        player.setDisplayName(displayName);
-        
-        // Create player info update packet for this specific player
-        PlayerInfoUpdatePacket.Entry entry = new PlayerInfoUpdatePacket.Entry(
+    private PlayerInfoUpdatePacket.Entry displayNameEntry(Player player, Component displayName) {
+        return new PlayerInfoUpdatePacket.Entry(
                 player.getUuid(),
                 player.getUsername(),
                 List.of(), // properties
-                player.isOnline(), // listed
+                true, // listed
                 player.getLatency(), // latency
                 player.getGameMode(), // game mode
                 displayName, // display name
                 null // chat session
         );
-        
-        PlayerInfoUpdatePacket packet = new PlayerInfoUpdatePacket(
-                EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME),
-                List.of(entry)
-        );
-        
-        // Send to all online players
-        MinecraftServer.getConnectionManager().getOnlinePlayers().forEach(onlinePlayer -> {
-            onlinePlayer.sendPacket(packet);
-        });
+    }
+
+    private CompletableFuture<RadiumRank> resolveRank(Player player) {
+        RadiumClient radiumClient = MythicHubServer.getInstance().getRadiumClient();
+
+        // Profiles are usually cached, so this normally completes immediately
+        return radiumClient.getPlayerProfile(player.getUuid())
+                .thenApply(profile -> profile != null ? profile.getHighestRank(radiumClient) : null)
+                .exceptionally(throwable -> {
+                    System.err.println("Error getting player rank from Radium for tablist: " + throwable.getMessage());
+                    return null;
+                });
+    }
+
+    private Component renderDisplayName(Player player, RadiumRank rank) {
+        if (rank != null && !rank.getName().equalsIgnoreCase("default") && !rank.getName().equalsIgnoreCase("member")) {
+            // Use Radium's formatting for tablist display
+            return MythicHubServer.getInstance().getRadiumClient().formatTabListName(rank, player.getUsername());
+        }
+
+        // Default display (no prefix for default/member ranks)
+        return Component.text(player.getUsername()).color(GRAY);
+    }
+
+    /**
+     * Move a player to the sort team for their highest rank. Players only change team
+     * when that rank changes, so a refresh with no rank changes sends no team packets.
+     */
+    private void updateSortTeam(Player player, RadiumRank rank) {
+        Team team = sortTeams.computeIfAbsent(sortTeamName(rank),
+                name -> MinecraftServer.getTeamManager().createTeam(name));
+        if (player.getTeam() != team) {
+            player.setTeam(team);
+        }
+    }
+
+    /**
+     * Clients order the tab list by team name, so the name starts with the inverted,
+     * zero-padded rank weight: heavier ranks sort first, equal weights group by rank name
+     */
+    private static String sortTeamName(RadiumRank rank) {
+        int weight = rank != null ? Math.max(0, Math.min(MAX_SORT_WEIGHT, rank.getWeight())) : 0;
+        String rankName = rank != null ? rank.getName().toLowerCase() : "member";
+        String name = String.format("%03d", MAX_SORT_WEIGHT - weight) + rankName;
+        return name.length() > 16 ? name.substring(0, 16) : name;
+    }
+
+    public void removePlayer(Player player) {
+        playerDisplayNames.remove(player);
+        sentFooters.remove(player);
+
+        Team team = player.getTeam();
+        if (team != null) {
+            team.removeMember(player.getUsername());
+        }
     }
 
     // Helper methods - you'll need to implement these based on your server architecture
@@ -216,8 +286,29 @@ public class TabListManager {
     }
 
     private double getServerTps() {
-        // TODO: Implement TPS calculation
-        // For now, return 20.0 as placeholder
-        return 20.0;
+        // Read the last published snapshot; the tick monitor aggregates off the tick thread
+        TickMonitor tickMonitor = MythicHubServer.getInstance().getTickMonitor();
+        return tickMonitor != null ? tickMonitor.getSnapshot().lastTenSeconds().tps() : 20.0;
+    }
+
+    private record FooterState(int version, int pingBucket) {
+    }
+
+    /**
+     * Footer components shared by every player, tagged with a version that changes
+     * whenever the rendered content does
+     */
+    private static class SharedFooter {
+        private final int version;
+        private final String key;
+        private final Component afterPing;
+        private final Component secondLine;
+
+        private SharedFooter(int version, String key, Component afterPing, Component secondLine) {
+            this.version = version;
+            this.key = key;
+            this.afterPing = afterPing;
+            this.secondLine = secondLine;
+        }
     }
-}
\ No newline at end of file
+}
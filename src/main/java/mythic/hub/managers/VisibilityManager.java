@@ -0,0 +1,147 @@
+package mythic.hub.managers;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The player visibility toggle. Each player gets a viewer rule that, while they have
+ * visibility off, only admits other players who are their friends or staff, so Minestom
+ * never spawns the rest for them and sends them none of their movement or metadata.
+ *
+ * Toggling re-evaluates the rule only against entities in the viewer's range.
+ * Friend and staff lookups are set reads on the {@link RelationshipCache}.
+ *
+ * The same rule also applies the optional nearest-N cap ({@code -Dview.limit}, 0 = off),
+ * which bounds how many players each viewer tracks however crowded spawn gets.
+ */
+public class VisibilityManager {
+    private final RelationshipCache relationships;
+    private final Set<UUID> hidingPlayers = ConcurrentHashMap.newKeySet();
+    private final NearestViewLimiter viewLimiter;
+    private Task recomputeTask;
+
+    public VisibilityManager(RelationshipCache relationships) {
+        this.relationships = relationships;
+        this.viewLimiter = new NearestViewLimiter(Integer.getInteger("view.limit", 0), relationships);
+    }
+
+    /**
+     * Apply cap changes from movement twice a second
+     */
+    public void start() {
+        if (!viewLimiter.isEnabled()) {
+            return;
+        }
+        recomputeTask = MinecraftServer.getSchedulerManager()
+                .buildTask(() -> viewLimiter.recompute().forEach(Player::updateViewerRule))
+                .repeat(TaskSchedule.tick(10))
+                .schedule();
+    }
+
+    public void stop() {
+        if (recomputeTask != null) {
+            recomputeTask.cancel();
+        }
+    }
+
+    /**
+     * Install the player's viewer rule; call once when they spawn
+     */
+    public void addPlayer(Player player) {
+        viewLimiter.addPlayer(player, player.getPosition());
+        player.updateViewerRule(target -> canSee(player, target));
+
+        // Exceptions depend on friends, which load after spawn
+        relationships.load(player).thenAccept(friends -> MinecraftServer.getSchedulerManager().scheduleNextTick(() -> {
+            if (!player.isOnline()) {
+                return;
+            }
+            viewLimiter.refreshRelationships(player);
+            if (hidingPlayers.contains(player.getUuid())) {
+                player.updateViewerRule();
+            }
+            // Friends of this player who hide everyone else may now see them
+            for (UUID friendUuid : friends) {
+                Player friend = MinecraftServer.getConnectionManager().getOnlinePlayerByUuid(friendUuid);
+                if (friend != null && hidingPlayers.contains(friendUuid)) {
+                    friend.updateViewerRule();
+                }
+            }
+        }));
+    }
+
+    public void removePlayer(Player player) {
+        hidingPlayers.remove(player.getUuid());
+        viewLimiter.removePlayer(player);
+    }
+
+    public void onMove(Player player, Point newPosition) {
+        viewLimiter.onMove(player, newPosition);
+    }
+
+    /**
+     * Record a player's rank weight, which decides who wins a capped view slot at equal distance
+     */
+    public void updateRank(Player player, int rankWeight) {
+        viewLimiter.updateRank(player, rankWeight);
+    }
+
+    /**
+     * A player's staff status changed, which changes who may see them through a hidden or capped view
+     */
+    public void refreshRelationships(Player player) {
+        viewLimiter.refreshRelationships(player);
+        MinecraftServer.getSchedulerManager().scheduleNextTick(() -> {
+            for (UUID hidingUuid : hidingPlayers) {
+                Player viewer = MinecraftServer.getConnectionManager().getOnlinePlayerByUuid(hidingUuid);
+                if (viewer != null && !viewer.equals(player)) {
+                    viewer.updateViewerRule();
+                }
+            }
+        });
+    }
+
+    /**
+     * Flip the player's visibility setting
+     * @return true if other players are now visible
+     */
+    public boolean toggle(Player player) {
+        boolean hiding = hidingPlayers.add(player.getUuid());
+        if (!hiding) {
+            hidingPlayers.remove(player.getUuid());
+        }
+        player.updateViewerRule();
+        return !hiding;
+    }
+
+    public boolean isShowingPlayers(Player player) {
+        return !hidingPlayers.contains(player.getUuid());
+    }
+
+    /**
+     * Number of players that currently have visibility off
+     */
+    public int getHidingCount() {
+        return hidingPlayers.size();
+    }
+
+    private boolean canSee(Player viewer, Entity target) {
+        if (!(target instanceof Player targetPlayer)) {
+            return true;
+        }
+        if (hidingPlayers.contains(viewer.getUuid())
+                && !relationships.isStaff(targetPlayer.getUuid())
+                && !relationships.areFriends(viewer.getUuid(), targetPlayer.getUuid())) {
+            return false;
+        }
+        return viewLimiter.allows(viewer, targetPlayer);
+    }
+}
@@ -0,0 +1,168 @@
+package mythic.hub.messaging;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Typed messages exchanged with the Radium proxy and other hubs over Redis.
+ * Each record writes its own payload fields; the envelope fields are written by {@link MessageCodec}.
+ * Payload field names match what the proxy already reads, so older consumers keep working.
+ */
+public sealed interface HubMessage {
+
+    /**
+     * Message type written to the envelope's messageType field
+     */
+    String type();
+
+    /**
+     * Write this message's payload fields into an already opened JSON object
+     */
+    void writeFields(JsonWriter out) throws IOException;
+
+    record ServerRegister(String name, String serverType, String host, int port,
+                          String motd, int maxPlayers, String status) implements HubMessage {
+        public static final String TYPE = "server_register";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("name").value(name);
+            out.name("type").value(serverType);
+            out.name("host").value(host);
+            out.name("port").value(port);
+            out.name("motd").value(motd);
+            out.name("maxPlayers").value(maxPlayers);
+            out.name("status").value(status);
+        }
+    }
+
+    record PlayerCount(String server, int playerCount) implements HubMessage {
+        public static final String TYPE = "player_count";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("server").value(server);
+            out.name("playerCount").value(playerCount);
+        }
+    }
+
+    record PlayerTransfer(UUID player, String playerName, String fromServer, String toServer) implements HubMessage {
+        public static final String TYPE = "player_transfer";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("type").value(TYPE);
+            out.name("player").value(player.toString());
+            out.name("playerName").value(playerName);
+            out.name("fromServer").value(fromServer);
+            out.name("toServer").value(toServer);
+        }
+    }
+
+    record GlobalMessage(String message, String fromServer) implements HubMessage {
+        public static final String TYPE = "global_message";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("type").value(TYPE);
+            out.name("message").value(message);
+            out.name("fromServer").value(fromServer);
+        }
+    }
+
+    record ServerListRequest(String fromServer) implements HubMessage {
+        public static final String TYPE = "server_list_request";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("type").value(TYPE);
+            out.name("fromServer").value(fromServer);
+        }
+    }
+
+    record ServerUnregister(String server) implements HubMessage {
+        public static final String TYPE = "server_unregister";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("type").value(TYPE);
+            out.name("server").value(server);
+        }
+    }
+
+    record CommandExecute(String player, String command) implements HubMessage {
+        public static final String TYPE = "command_execute";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("player").value(player);
+            out.name("command").value(command);
+        }
+    }
+
+    record RpcReply(boolean success, String message) implements HubMessage {
+        public static final String TYPE = "rpc_reply";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("success").value(success);
+            out.name("message").value(message);
+        }
+    }
+
+    /**
+     * Chat lines formatted on one hub during a tick, relayed to every other hub in one publish
+     */
+    record ChatBatch(List<ChatLine> lines) implements HubMessage {
+        public static final String TYPE = "chat_batch";
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("lines").beginArray();
+            for (ChatLine line : lines) {
+                out.beginObject();
+                out.name("id").value(line.id());
+                out.name("sender").value(line.sender().toString());
+                out.name("component").value(line.component());
+                out.endObject();
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * One pre-rendered chat line; the component is Adventure's JSON form
+     */
+    record ChatLine(String id, UUID sender, String component) {
+    }
+
+    /**
+     * Network-wide chat controls, replicated between hubs through a Redis hash
+     */
+    record ChatState(long version, boolean locked, String lockChangedBy, boolean slowMode, long filterVersion) implements HubMessage {
+        public static final String TYPE = "chat_state";
+        public static final ChatState INITIAL = new ChatState(0, false, null, false, 0);
+
+        public String type() { return TYPE; }
+
+        public void writeFields(JsonWriter out) throws IOException {
+            out.name("version").value(version);
+            out.name("locked").value(locked);
+            out.name("lockChangedBy").value(lockChangedBy);
+            out.name("slowMode").value(slowMode);
+            out.name("filterVersion").value(filterVersion);
+        }
+    }
+}
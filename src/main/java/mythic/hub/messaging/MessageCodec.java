@@ -0,0 +1,398 @@
+package mythic.hub.messaging;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming JSON encoder/decoder for {@link HubMessage}s.
+ *
+ * Every encoded message is a flat JSON object that starts with the envelope fields
+ * (messageType, schemaVersion, source, timestamp, and requestId/replyTo for requests)
+ * followed by the message's own payload fields. Encoding writes straight into a
+ * per-thread buffer that is reused between messages instead of building a map or tree.
+ * Decoding streams the tokens straight into a reused per-thread set of field slots and
+ * maps those to the message's record, so no map or list tree is built either.
+ *
+ * Messages with a newer schemaVersion than {@link #SCHEMA_VERSION} are skipped (payload
+ * null). A missing or 0 version marks the legacy bare format without an envelope.
+ */
+public class MessageCodec {
+    public static final int SCHEMA_VERSION = 1;
+
+    // Newer schema versions already reported, so a newer producer is logged once rather than per message
+    private static final Set<Integer> reportedVersions = ConcurrentHashMap.newKeySet();
+
+    private final String source;
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(256));
+    private final ThreadLocal<DecodedFields> decodeBuffers = ThreadLocal.withInitial(DecodedFields::new);
+
+    public MessageCodec(String source) {
+        this.source = source;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Encode a fire-and-forget message
+     */
+    public String encode(HubMessage message) {
+        return encodeRequest(message, null, null);
+    }
+
+    /**
+     * Encode a message that expects a reply on the given channel
+     */
+    public String encodeRequest(HubMessage message, String requestId, String replyTo) {
+        StringWriter buffer = resetBuffer();
+        try {
+            JsonWriter out = new JsonWriter(buffer);
+            writeMessage(out, message, requestId, replyTo);
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode " + message.type(), e);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Encode several requests into a single batch message sharing one reply channel
+     */
+    public String encodeBatch(List<String> requestIds, List<HubMessage> messages, String replyTo) {
+        StringWriter buffer = resetBuffer();
+        try {
+            JsonWriter out = new JsonWriter(buffer);
+            out.beginObject();
+            writeEnvelope(out, "batch", null, replyTo);
+            out.name("batch").beginArray();
+            for (int i = 0; i < messages.size(); i++) {
+                writeMessage(out, messages.get(i), requestIds.get(i), replyTo);
+            }
+            out.endArray();
+            out.endObject();
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode batch", e);
+        }
+        return buffer.toString();
+    }
+
+    private StringWriter resetBuffer() {
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        return buffer;
+    }
+
+    private void writeMessage(JsonWriter out, HubMessage message, String requestId, String replyTo) throws IOException {
+        out.beginObject();
+        writeEnvelope(out, message.type(), requestId, replyTo);
+        message.writeFields(out);
+        out.endObject();
+    }
+
+    private void writeEnvelope(JsonWriter out, String type, String requestId, String replyTo) throws IOException {
+        out.name("messageType").value(type);
+        out.name("schemaVersion").value(SCHEMA_VERSION);
+        out.name("source").value(source);
+        out.name("timestamp").value(System.currentTimeMillis());
+        if (requestId != null) {
+            out.name("requestId").value(requestId);
+        }
+        if (replyTo != null) {
+            out.name("replyTo").value(replyTo);
+        }
+    }
+
+    /**
+     * Decode a message, flattening batch ("batch") and multi-reply ("replies") wrappers
+     * into one envelope per contained message
+     */
+    public List<MessageEnvelope> decodeAll(String json) throws IOException {
+        JsonReader in = new JsonReader(new StringReader(json));
+        DecodedFields fields = decodeBuffers.get().reset();
+        List<MessageEnvelope> nested = new ArrayList<>();
+        readFields(in, fields, nested);
+        return fields.hasNested ? nested : List.of(fields.toEnvelope());
+    }
+
+    /**
+     * Decode a single message
+     */
+    public MessageEnvelope decode(String json) throws IOException {
+        JsonReader in = new JsonReader(new StringReader(json));
+        DecodedFields fields = decodeBuffers.get().reset();
+        readFields(in, fields, null);
+        return fields.toEnvelope();
+    }
+
+    // Stream one JSON object's tokens straight into the field slots; nested batch/replies
+    // elements are decoded one at a time through a single reused slot set
+    private static void readFields(JsonReader in, DecodedFields fields, List<MessageEnvelope> nested) throws IOException {
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            switch (name) {
+                case "messageType" -> fields.messageType = readString(in);
+                case "schemaVersion" -> fields.schemaVersion = (int) readLong(in, 0);
+                case "source" -> fields.source = readString(in);
+                case "timestamp" -> fields.timestamp = readLong(in, 0);
+                case "requestId" -> fields.requestId = readString(in);
+                case "replyTo" -> fields.replyTo = readString(in);
+                case "name" -> fields.name = readString(in);
+                case "type" -> fields.type = readString(in);
+                case "host" -> fields.host = readString(in);
+                case "port" -> fields.port = (int) readLong(in, 0);
+                case "motd" -> fields.motd = readString(in);
+                case "maxPlayers" -> fields.maxPlayers = (int) readLong(in, 0);
+                case "status" -> fields.status = readString(in);
+                case "server" -> fields.server = readString(in);
+                case "playerCount" -> {
+                    fields.playerCount = (int) readLong(in, 0);
+                    fields.hasPlayerCount = true;
+                }
+                case "player" -> fields.player = readString(in);
+                case "playerName" -> fields.playerName = readString(in);
+                case "fromServer" -> fields.fromServer = readString(in);
+                case "toServer" -> fields.toServer = readString(in);
+                case "message" -> fields.message = readString(in);
+                case "command" -> fields.command = readString(in);
+                case "success" -> {
+                    fields.success = readBoolean(in);
+                    fields.hasSuccess = true;
+                }
+                case "version" -> fields.version = readLong(in, 0);
+                case "locked" -> fields.locked = readBoolean(in);
+                case "lockChangedBy" -> fields.lockChangedBy = readString(in);
+                case "slowMode" -> fields.slowMode = readBoolean(in);
+                case "filterVersion" -> fields.filterVersion = readLong(in, 0);
+                case "lines" -> fields.lines = readChatLines(in);
+                case "batch", "replies" -> {
+                    if (nested != null && in.peek() == JsonToken.BEGIN_ARRAY) {
+                        fields.hasNested = true;
+                        readNested(in, nested);
+                    } else {
+                        in.skipValue();
+                    }
+                }
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+    }
+
+    private static void readNested(JsonReader in, List<MessageEnvelope> nested) throws IOException {
+        DecodedFields element = new DecodedFields();
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() == JsonToken.BEGIN_OBJECT) {
+                readFields(in, element.reset(), null);
+                nested.add(element.toEnvelope());
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endArray();
+    }
+
+    private static List<HubMessage.ChatLine> readChatLines(JsonReader in) throws IOException {
+        List<HubMessage.ChatLine> lines = new ArrayList<>();
+        if (in.peek() != JsonToken.BEGIN_ARRAY) {
+            in.skipValue();
+            return lines;
+        }
+
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                in.skipValue();
+                continue;
+            }
+            String id = null;
+            String sender = null;
+            String component = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = readString(in);
+                    case "sender" -> sender = readString(in);
+                    case "component" -> component = readString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            if (id != null && sender != null && component != null) {
+                lines.add(new HubMessage.ChatLine(id, UUID.fromString(sender), component));
+            }
+        }
+        in.endArray();
+        return lines;
+    }
+
+    // Scalar readers that accept numbers, strings and booleans interchangeably, as producers differ
+
+    private static String readString(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case NULL:
+                in.nextNull();
+                return null;
+            case BOOLEAN:
+                return String.valueOf(in.nextBoolean());
+            case STRING:
+            case NUMBER:
+                return in.nextString();
+            default:
+                in.skipValue();
+                return null;
+        }
+    }
+
+    private static long readLong(JsonReader in, long defaultValue) throws IOException {
+        String value = readString(in);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return (long) Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static boolean readBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.BOOLEAN) {
+            return in.nextBoolean();
+        }
+        return Boolean.parseBoolean(readString(in));
+    }
+
+    /**
+     * Read chat state from the Redis hash it is stored in, whose values are all strings
+     */
+    public static HubMessage.ChatState chatState(Map<String, String> fields) {
+        return new HubMessage.ChatState(
+                longValue(fields, "version", 0), bool(fields, "locked"), fields.get("lockChangedBy"),
+                bool(fields, "slowMode"), longValue(fields, "filterVersion", 0));
+    }
+
+    private static long longValue(Map<String, String> fields, String name, long defaultValue) {
+        String value = fields.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return (long) Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static boolean bool(Map<String, String> fields, String name) {
+        return Boolean.parseBoolean(fields.get(name));
+    }
+
+    /**
+     * Slots for every field a known message can carry, filled while streaming and then
+     * mapped to the record for the message type. One instance per thread is reused.
+     */
+    private static final class DecodedFields {
+        String messageType;
+        int schemaVersion;
+        String source;
+        long timestamp;
+        String requestId;
+        String replyTo;
+
+        String name;
+        String type;
+        String host;
+        int port;
+        String motd;
+        int maxPlayers;
+        String status;
+        String server;
+        int playerCount;
+        boolean hasPlayerCount;
+        String player;
+        String playerName;
+        String fromServer;
+        String toServer;
+        String message;
+        String command;
+        boolean success;
+        boolean hasSuccess;
+        long version;
+        boolean locked;
+        String lockChangedBy;
+        boolean slowMode;
+        long filterVersion;
+        List<HubMessage.ChatLine> lines;
+        boolean hasNested;
+
+        DecodedFields reset() {
+            messageType = source = requestId = replyTo = null;
+            schemaVersion = 0;
+            timestamp = 0;
+            name = type = host = motd = status = server = null;
+            port = maxPlayers = playerCount = 0;
+            player = playerName = fromServer = toServer = message = command = lockChangedBy = null;
+            hasPlayerCount = success = hasSuccess = locked = slowMode = hasNested = false;
+            version = filterVersion = 0;
+            lines = null;
+            return this;
+        }
+
+        MessageEnvelope toEnvelope() {
+            if (schemaVersion > SCHEMA_VERSION) {
+                if (reportedVersions.add(schemaVersion)) {
+                    System.err.println("[MessageCodec] Skipping " + messageType + " from " + source + " with schema version "
+                            + schemaVersion + ", this hub understands up to " + SCHEMA_VERSION);
+                }
+                return new MessageEnvelope(messageType, source, timestamp, schemaVersion, requestId, replyTo, null);
+            }
+
+            String resolvedType = messageType;
+            if (schemaVersion == 0 && resolvedType == null) {
+                // Legacy bare format without an envelope; recognise the known shapes
+                if (requestId != null && hasSuccess) {
+                    resolvedType = HubMessage.RpcReply.TYPE; // Replies from responders that don't write an envelope
+                } else if (server != null && hasPlayerCount) {
+                    resolvedType = HubMessage.PlayerCount.TYPE; // Bare {server, playerCount} from servers on the old format
+                }
+            }
+
+            return new MessageEnvelope(resolvedType, source, timestamp, schemaVersion, requestId, replyTo,
+                    resolvedType != null ? payload(resolvedType) : null);
+        }
+
+        private HubMessage payload(String resolvedType) {
+            return switch (resolvedType) {
+                case HubMessage.ServerRegister.TYPE -> new HubMessage.ServerRegister(
+                        name, type, host, port, motd, maxPlayers, status);
+                case HubMessage.PlayerCount.TYPE -> new HubMessage.PlayerCount(server, playerCount);
+                case HubMessage.PlayerTransfer.TYPE -> new HubMessage.PlayerTransfer(
+                        UUID.fromString(player), playerName, fromServer, toServer);
+                case HubMessage.GlobalMessage.TYPE -> new HubMessage.GlobalMessage(message, fromServer);
+                case HubMessage.ServerListRequest.TYPE -> new HubMessage.ServerListRequest(fromServer);
+                case HubMessage.ServerUnregister.TYPE -> new HubMessage.ServerUnregister(server);
+                case HubMessage.CommandExecute.TYPE -> new HubMessage.CommandExecute(player, command);
+                case HubMessage.RpcReply.TYPE -> new HubMessage.RpcReply(success, message);
+                case HubMessage.ChatBatch.TYPE -> new HubMessage.ChatBatch(lines != null ? lines : List.of());
+                case HubMessage.ChatState.TYPE -> new HubMessage.ChatState(
+                        version, locked, lockChangedBy, slowMode, filterVersion);
+                default -> null;
+            };
+        }
+    }
+}
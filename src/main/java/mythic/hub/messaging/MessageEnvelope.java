@@ -0,0 +1,10 @@
+package mythic.hub.messaging;
+
+/**
+ * A decoded message together with its envelope fields.
+ * requestId and replyTo are only present on request/response traffic; payload is
+ * null when the message type is not known to this hub.
+ */
+public record MessageEnvelope(String type, String source, long timestamp, int schemaVersion,
+                              String requestId, String replyTo, HubMessage payload) {
+}
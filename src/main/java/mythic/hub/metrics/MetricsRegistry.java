@@ -0,0 +1,83 @@
+package mythic.hub.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Named gauges that can be exported in the Prometheus text format.
+ * Gauges are read when the metrics are rendered, so registering one costs nothing until scraped.
+ */
+public class MetricsRegistry {
+    private final ConcurrentSkipListMap<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    private HttpServer httpServer;
+
+    public void gauge(String name, String help, Supplier<? extends Number> value) {
+        gauges.put(name, new Gauge(help, value));
+    }
+
+    public void remove(String name) {
+        gauges.remove(name);
+    }
+
+    /**
+     * Render every gauge in the Prometheus text exposition format
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder(gauges.size() * 64);
+        for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            String name = entry.getKey();
+            Gauge gauge = entry.getValue();
+            Number value;
+            try {
+                value = gauge.value.get();
+            } catch (Exception e) {
+                continue; // Skip gauges whose source is unavailable
+            }
+
+            out.append("# HELP ").append(name).append(' ').append(gauge.help).append('\n');
+            out.append("# TYPE ").append(name).append(" gauge\n");
+            out.append(name).append(' ').append(value).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Serve the metrics at /metrics on the given port
+     */
+    public void startHttpServer(int port) throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        httpServer.createContext("/metrics", exchange -> {
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        httpServer.start();
+        System.out.println("[MetricsRegistry] Serving metrics on port " + port);
+    }
+
+    public void shutdown() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+        }
+    }
+
+    private static class Gauge {
+        private final String help;
+        private final Supplier<? extends Number> value;
+
+        private Gauge(String help, Supplier<? extends Number> value) {
+            this.help = help;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package mythic.hub.metrics;
+
+import net.minestom.server.event.GlobalEventHandler;
+import net.minestom.server.event.server.ServerTickMonitorEvent;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the duration of every server tick and derives TPS and MSPT statistics.
+ *
+ * The tick thread is the only writer: it stores the tick's end time and duration in a
+ * ring buffer and publishes the new write position. Statistics are computed by
+ * {@link #refreshSnapshot()} on another thread, and readers only ever touch the
+ * latest immutable {@link Snapshot}, so nothing is sorted or allocated on the tick thread.
+ *
+ * A tick that is still running counts towards MSPT max once it overruns its slot, and a
+ * window with no ticks after the first one reports 0 TPS, so a stalled tick thread shows
+ * up instead of reading as idle.
+ */
+public class TickMonitor {
+    private static final int CAPACITY = 2048; // > 60 seconds at 20 TPS
+    private static final int TARGET_TPS = 20;
+    private static final long SECOND_NANOS = 1_000_000_000L;
+    private static final long TICK_NANOS = SECOND_NANOS / TARGET_TPS;
+
+    private final long[] tickEndNanos = new long[CAPACITY];
+    private final long[] tickDurationNanos = new long[CAPACITY];
+    // Number of ticks recorded so far; written only by the tick thread
+    private final AtomicLong writeCount = new AtomicLong();
+    // End time of the first recorded tick, so windows longer than the uptime aren't under-counted
+    private volatile long firstTickNanos;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public void register(GlobalEventHandler eventHandler) {
+        eventHandler.addListener(ServerTickMonitorEvent.class,
+                event -> recordTick((long) (event.getTickMonitor().getTickTime() * 1_000_000)));
+    }
+
+    private void recordTick(long durationNanos) {
+        long count = writeCount.get();
+        int index = (int) (count % CAPACITY);
+        long now = System.nanoTime();
+        if (count == 0) {
+            firstTickNanos = now;
+        }
+        tickEndNanos[index] = now;
+        tickDurationNanos[index] = durationNanos;
+        // Ordered store publishes the slot before readers can see the new count
+        writeCount.lazySet(count + 1);
+    }
+
+    /**
+     * Recompute the statistics from the ring buffer. Called periodically off the tick thread.
+     */
+    public void refreshSnapshot() {
+        long count = writeCount.get();
+        int available = (int) Math.min(count, CAPACITY - TARGET_TPS); // Leave room for ticks written while copying
+        long now = System.nanoTime();
+
+        // Copy newest first; stop at the oldest window boundary
+        long[] durations = new long[available];
+        int inLastSecond = 0;
+        int inLastTenSeconds = 0;
+        int inLastMinute = 0;
+        for (int i = 0; i < available; i++) {
+            int index = (int) ((count - 1 - i) % CAPACITY);
+            long age = now - tickEndNanos[index];
+            if (age > 60 * SECOND_NANOS) {
+                break;
+            }
+            durations[i] = tickDurationNanos[index];
+            inLastMinute++;
+            if (age <= 10 * SECOND_NANOS) {
+                inLastTenSeconds++;
+            }
+            if (age <= SECOND_NANOS) {
+                inLastSecond++;
+            }
+        }
+
+        if (count == 0) {
+            return; // Nothing recorded yet, keep the empty snapshot
+        }
+
+        // Time the next tick has been running: it was due one tick after the last one started
+        int last = (int) ((count - 1) % CAPACITY);
+        long nextTickStart = tickEndNanos[last] - tickDurationNanos[last] + TICK_NANOS;
+        long inProgress = Math.max(0, now - nextTickStart);
+
+        // Seconds the ticks could have run in; the first tick began one tick before it ended
+        double uptime = (now - firstTickNanos) / (double) SECOND_NANOS + 1.0 / TARGET_TPS;
+        snapshot = new Snapshot(
+                window(durations, inLastSecond, Math.min(1, uptime), inProgress),
+                window(durations, inLastTenSeconds, Math.min(10, uptime), inProgress),
+                window(durations, inLastMinute, Math.min(60, uptime), inProgress),
+                toMillis(inProgress),
+                count
+        );
+    }
+
+    private static Window window(long[] newestFirst, int ticks, double seconds, long inProgressNanos) {
+        if (ticks == 0) {
+            // No tick finished in the whole window: the tick thread is stuck in the current one
+            double stalled = toMillis(inProgressNanos);
+            return new Window(0, stalled, stalled, stalled, stalled, stalled);
+        }
+
+        long[] sorted = Arrays.copyOf(newestFirst, ticks);
+        Arrays.sort(sorted);
+
+        long total = 0;
+        for (long duration : sorted) {
+            total += duration;
+        }
+
+        double tps = Math.min(TARGET_TPS, ticks / seconds);
+        return new Window(tps, toMillis(total / (double) ticks),
+                toMillis(percentile(sorted, 0.50)), toMillis(percentile(sorted, 0.95)),
+                toMillis(percentile(sorted, 0.99)), toMillis(Math.max(sorted[sorted.length - 1], inProgressNanos)));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * TPS and MSPT statistics over one time window
+     */
+    public record Window(double tps, double msptMean, double msptP50, double msptP95, double msptP99, double msptMax) {
+        // Before the first tick only
+        static final Window EMPTY = new Window(TARGET_TPS, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Statistics for the last second, ten seconds and minute as of the last refresh, plus how
+     * long the current tick has overrun its slot (0 unless the tick thread is behind)
+     */
+    public record Snapshot(Window lastSecond, Window lastTenSeconds, Window lastMinute, double currentTickMillis, long totalTicks) {
+        static final Snapshot EMPTY = new Snapshot(Window.EMPTY, Window.EMPTY, Window.EMPTY, 0, 0);
+    }
+}
@@ -0,0 +1,45 @@
+package mythic.hub.skins;
+
+import mythic.hub.database.RedisManager;
+import net.minestom.server.entity.PlayerSkin;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Skins shared between hubs through Redis. Every hub publishes the signed textures its
+ * players log in with, so any hub can render those players' heads without asking Mojang.
+ */
+public class RedisSkinFetcher implements SkinFetcher {
+    private static final String KEY_PREFIX = "mythic:skin:";
+
+    private final RedisManager redisManager;
+    private final long ttlSeconds;
+
+    public RedisSkinFetcher(RedisManager redisManager, Duration ttl) {
+        this.redisManager = redisManager;
+        this.ttlSeconds = ttl.toSeconds();
+    }
+
+    @Override
+    public PlayerSkin fetch(UUID uuid) {
+        Map<String, String> fields = redisManager.hgetall(KEY_PREFIX + uuid);
+        String textures = fields.get("textures");
+        if (textures == null || textures.isEmpty()) {
+            return null;
+        }
+        String signature = fields.get("signature");
+        return new PlayerSkin(textures, signature == null || signature.isEmpty() ? null : signature);
+    }
+
+    public void publish(UUID uuid, PlayerSkin skin) {
+        String key = KEY_PREFIX + uuid;
+        String signature = skin.signature();
+        redisManager.hset(key, Map.of(
+                "textures", skin.textures(),
+                "signature", signature != null ? signature : ""
+        ));
+        redisManager.expire(key, ttlSeconds);
+    }
+}
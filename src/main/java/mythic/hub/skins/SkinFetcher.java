@@ -0,0 +1,34 @@
+package mythic.hub.skins;
+
+import net.minestom.server.entity.PlayerSkin;
+
+import java.util.UUID;
+
+/**
+ * Where {@link SkinResolver} gets textures it has neither in memory nor on disk.
+ * Called on the resolver's own threads, so implementations may block.
+ */
+@FunctionalInterface
+public interface SkinFetcher {
+    SkinFetcher MOJANG = uuid -> PlayerSkin.fromUuid(uuid.toString());
+
+    /**
+     * @return the player's skin, or null if they have none
+     */
+    PlayerSkin fetch(UUID uuid) throws Exception;
+
+    /**
+     * Try this fetcher first and fall back to the given one if it has no skin or fails
+     */
+    default SkinFetcher orElse(SkinFetcher fallback) {
+        return uuid -> {
+            PlayerSkin skin = null;
+            try {
+                skin = fetch(uuid);
+            } catch (Exception e) {
+                System.err.println("[SkinFetcher] Lookup failed for " + uuid + ", falling back: " + e.getMessage());
+            }
+            return skin != null ? skin : fallback.fetch(uuid);
+        };
+    }
+}
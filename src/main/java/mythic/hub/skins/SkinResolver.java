@@ -0,0 +1,137 @@
+package mythic.hub.skins;
+
+import net.minestom.server.entity.PlayerSkin;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Resolves player skins without blocking the caller.
+ *
+ * Lookups go through a bounded in-memory LRU, then the on-disk {@link SkinStore}, then
+ * the {@link SkinFetcher}. Only the memory check runs on the calling thread; the rest
+ * runs on the resolver's own threads, and concurrent requests for the same player share
+ * one lookup. Sizes come from {@code -Dskins.cache.size}, {@code -Dskins.cache.file}
+ * and {@code -Dskins.cache.ttl.hours}.
+ */
+public class SkinResolver {
+    private final SkinFetcher fetcher;
+    private final SkinStore store;
+    private final Map<UUID, PlayerSkin> memory;
+    private final ConcurrentHashMap<UUID, CompletableFuture<PlayerSkin>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "skin-resolver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SkinResolver(SkinFetcher fetcher) {
+        this(fetcher,
+                new SkinStore(Paths.get(System.getProperty("skins.cache.file", "cache/skins.log")),
+                        Duration.ofHours(Long.getLong("skins.cache.ttl.hours", 24))),
+                Integer.getInteger("skins.cache.size", 2048));
+    }
+
+    public SkinResolver(SkinFetcher fetcher, SkinStore store, int memoryCapacity) {
+        this.fetcher = fetcher;
+        this.store = store;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PlayerSkin> eldest) {
+                return size() > memoryCapacity;
+            }
+        };
+    }
+
+    /**
+     * The skin if it is already in memory, otherwise null. Never blocks.
+     */
+    public PlayerSkin getIfCached(UUID uuid) {
+        synchronized (memory) {
+            return memory.get(uuid);
+        }
+    }
+
+    /**
+     * Resolve a player's skin; completes with null if they have none or every source failed
+     */
+    public CompletableFuture<PlayerSkin> resolve(UUID uuid) {
+        PlayerSkin cached = getIfCached(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<PlayerSkin> future = new CompletableFuture<>();
+        CompletableFuture<PlayerSkin> existing = inFlight.putIfAbsent(uuid, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                PlayerSkin skin = null;
+                try {
+                    skin = load(uuid);
+                } catch (RuntimeException e) {
+                    System.err.println("[SkinResolver] Skin lookup failed for " + uuid + ": " + e.getMessage());
+                } finally {
+                    // Always settle, or every later resolve for this player would wait forever
+                    inFlight.remove(uuid, future);
+                    future.complete(skin);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(uuid, future); // Resolver already shut down
+            future.complete(null);
+        }
+        return future;
+    }
+
+    /**
+     * Remember a skin obtained elsewhere, e.g. from a player's own login
+     */
+    public void put(UUID uuid, PlayerSkin skin) {
+        synchronized (memory) {
+            memory.put(uuid, skin);
+        }
+        try {
+            executor.execute(() -> store.put(uuid, skin));
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the skin is only kept in memory
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        store.shutdown();
+    }
+
+    private PlayerSkin load(UUID uuid) {
+        PlayerSkin skin = store.get(uuid);
+        if (skin == null) {
+            try {
+                skin = fetcher.fetch(uuid);
+            } catch (Exception e) {
+                System.err.println("[SkinResolver] Could not fetch skin for " + uuid + ": " + e.getMessage());
+                return null;
+            }
+            if (skin == null) {
+                return null;
+            }
+            store.put(uuid, skin);
+        }
+
+        synchronized (memory) {
+            memory.put(uuid, skin);
+        }
+        return skin;
+    }
+}
@@ -0,0 +1,216 @@
+package mythic.hub.skins;
+
+import net.minestom.server.entity.PlayerSkin;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Skins persisted across restarts in an append-only log, one line per fetch:
+ * {@code uuid \t fetchedAtMillis \t textures \t signature}.
+ *
+ * Only the offset of each player's latest line is kept in memory; the line itself is
+ * read back on lookup. Entries older than the TTL are ignored. Storing a skin identical
+ * to a live entry writes nothing, and once most lines in the log are stale it is
+ * rewritten with just the live entries, on startup or as soon as a write tips it over.
+ * If the file can't be opened the store stays empty and every lookup misses.
+ */
+public class SkinStore {
+    private static final String SEPARATOR = "\t";
+
+    private final Path file;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<UUID, Slot> index = new ConcurrentHashMap<>();
+    private RandomAccessFile log;
+    // Lines currently in the log, live or not
+    private int lines;
+
+    public SkinStore(Path file, Duration ttl) {
+        this.file = file;
+        this.ttlMillis = ttl.toMillis();
+
+        try {
+            load();
+            System.out.println("[SkinStore] Loaded " + index.size() + " cached skins from " + file);
+        } catch (IOException e) {
+            System.err.println("[SkinStore] Skin cache disabled, could not open " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The stored skin, or null if there is none or it has expired
+     */
+    public PlayerSkin get(UUID uuid) {
+        Slot slot = index.get(uuid);
+        if (slot == null) {
+            return null;
+        }
+        if (isExpired(slot.fetchedAt(), System.currentTimeMillis())) {
+            index.remove(uuid, slot);
+            return null;
+        }
+
+        byte[] bytes = new byte[slot.length()];
+        try {
+            synchronized (this) {
+                if (log == null) {
+                    return null; // Shut down
+                }
+                log.seek(slot.offset());
+                log.readFully(bytes);
+            }
+        } catch (IOException e) {
+            System.err.println("[SkinStore] Failed to read skin for " + uuid + ": " + e.getMessage());
+            return null;
+        }
+
+        Entry entry = parse(new String(bytes, StandardCharsets.US_ASCII));
+        return entry != null && entry.uuid().equals(uuid) ? entry.skin() : null;
+    }
+
+    public void put(UUID uuid, PlayerSkin skin) {
+        if (skin.equals(get(uuid))) {
+            return; // Same textures and signature as a live entry, e.g. a player logging in again
+        }
+
+        long now = System.currentTimeMillis();
+        byte[] bytes = (format(new Entry(uuid, now, skin)) + "\n").getBytes(StandardCharsets.US_ASCII);
+        try {
+            synchronized (this) {
+                if (log == null) {
+                    return;
+                }
+                long offset = log.length();
+                log.seek(offset);
+                log.write(bytes);
+                index.put(uuid, new Slot(offset, bytes.length - 1, now));
+                lines++;
+                if (isMostlyStale()) {
+                    compact();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[SkinStore] Failed to store skin for " + uuid + ": " + e.getMessage());
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("[SkinStore] Failed to close " + file + ": " + e.getMessage());
+        }
+        log = null;
+        index.clear();
+    }
+
+    private void load() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        // Latest live line per player; lines are ASCII and end in a single \n
+        Map<UUID, Slot> latest = new HashMap<>();
+        long now = System.currentTimeMillis();
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+                long offset = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines++;
+                    Entry entry = parse(line);
+                    if (entry != null && !isExpired(entry.fetchedAt(), now)) {
+                        latest.put(entry.uuid(), new Slot(offset, line.length(), entry.fetchedAt()));
+                    } else if (entry != null) {
+                        latest.remove(entry.uuid());
+                    }
+                    offset += line.length() + 1;
+                }
+            }
+        }
+
+        log = new RandomAccessFile(file.toFile(), "rw");
+        index.putAll(latest);
+
+        if (isMostlyStale()) {
+            compact();
+        }
+    }
+
+    private boolean isMostlyStale() {
+        return lines > 64 && lines > index.size() * 2;
+    }
+
+    // Rewrite the log with only the live entries, then swap it in place of the old one.
+    // Called during load or with the store's lock held.
+    private void compact() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Map<UUID, Slot> rewritten = new HashMap<>();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.US_ASCII)) {
+            long offset = 0;
+            for (Map.Entry<UUID, Slot> entry : index.entrySet()) {
+                byte[] bytes = new byte[entry.getValue().length()];
+                log.seek(entry.getValue().offset());
+                log.readFully(bytes);
+                String line = new String(bytes, StandardCharsets.US_ASCII);
+
+                writer.write(line);
+                writer.write('\n');
+                rewritten.put(entry.getKey(), new Slot(offset, line.length(), entry.getValue().fetchedAt()));
+                offset += line.length() + 1;
+            }
+        }
+
+        log.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log = new RandomAccessFile(file.toFile(), "rw");
+        index.clear();
+        index.putAll(rewritten);
+        lines = rewritten.size();
+        System.out.println("[SkinStore] Compacted " + file + " to " + rewritten.size() + " entries");
+    }
+
+    private boolean isExpired(long fetchedAt, long now) {
+        return now - fetchedAt > ttlMillis;
+    }
+
+    private static String format(Entry entry) {
+        String signature = entry.skin().signature();
+        return entry.uuid() + SEPARATOR + entry.fetchedAt() + SEPARATOR + entry.skin().textures()
+                + SEPARATOR + (signature != null ? signature : "");
+    }
+
+    private static Entry parse(String line) {
+        String[] parts = line.split(SEPARATOR, -1);
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            String signature = parts[3].isEmpty() ? null : parts[3];
+            return new Entry(UUID.fromString(parts[0]), Long.parseLong(parts[1]), new PlayerSkin(parts[2], signature));
+        } catch (IllegalArgumentException e) {
+            return null; // Torn write from a crash; the next fetch appends a fresh line
+        }
+    }
+
+    private record Entry(UUID uuid, long fetchedAt, PlayerSkin skin) {
+    }
+
+    private record Slot(long offset, int length, long fetchedAt) {
+    }
+}
@@ -5,8 +5,17 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.instance.InstanceContainer;
 import net.minestom.server.instance.block.Block;
 
+import java.util.List;
+
 public class HubWorld {
     private static final Pos SPAWN_LOCATION = new Pos(0, 65, 0, 0, 0);
+    // One spawn per platform quadrant, each in its own chunk and facing the center
+    private static final List<Pos> SPAWN_POINTS = List.of(
+            new Pos(6.5, 65, 6.5, 135, 0),
+            new Pos(-5.5, 65, 6.5, -135, 0),
+            new Pos(6.5, 65, -5.5, 45, 0),
+            new Pos(-5.5, 65, -5.5, -45, 0)
+    );
 
     // Cache frequently used blocks
     private static final Block QUARTZ_BLOCK = Block.QUARTZ_BLOCK;
@@ -56,4 +65,11 @@ public class HubWorld {
     public static Pos getSpawnLocation() {
         return SPAWN_LOCATION;
     }
+
+    /**
+     * Default spawn points handed out by {@link SpawnAllocator}
+     */
+    public static List<Pos> getSpawnPoints() {
+        return SPAWN_POINTS;
+    }
 }
\ No newline at end of file
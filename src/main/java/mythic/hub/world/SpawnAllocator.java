@@ -0,0 +1,111 @@
+package mythic.hub.world;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands each joining player the least crowded spawn point, so a join wave is spread
+ * across several chunks instead of stacking on one.
+ *
+ * Occupancy is live: a player counts towards their point until they walk more than
+ * {@link #LEAVE_RADIUS} blocks away from it or disconnect. Points are read from
+ * {@code -Dhub.spawns} as {@code x,y,z[,yaw,pitch]} entries separated by {@code ;},
+ * falling back to {@link HubWorld#getSpawnPoints()}.
+ */
+public class SpawnAllocator {
+    private static final double LEAVE_RADIUS = 8;
+
+    private final List<Pos> points;
+    private final int[] occupancy;
+    // Index of the point each player is still counted at
+    private final ConcurrentHashMap<UUID, Integer> assignments = new ConcurrentHashMap<>();
+    private int nextTieBreak;
+
+    public SpawnAllocator() {
+        this(parsePoints(System.getProperty("hub.spawns")));
+    }
+
+    public SpawnAllocator(List<Pos> points) {
+        this.points = points.isEmpty() ? HubWorld.getSpawnPoints() : List.copyOf(points);
+        this.occupancy = new int[this.points.size()];
+        System.out.println("[SpawnAllocator] Using " + this.points.size() + " spawn points");
+    }
+
+    /**
+     * Pick the least occupied point for a joining player and count them there.
+     * Ties rotate so an empty hub still spreads its first joiners.
+     */
+    public synchronized Pos allocate(Player player) {
+        release(player);
+
+        int best = -1;
+        for (int offset = 0; offset < points.size(); offset++) {
+            int index = (nextTieBreak + offset) % points.size();
+            if (best < 0 || occupancy[index] < occupancy[best]) {
+                best = index;
+            }
+        }
+        nextTieBreak = (best + 1) % points.size();
+
+        occupancy[best]++;
+        assignments.put(player.getUuid(), best);
+        return points.get(best);
+    }
+
+    /**
+     * Stop counting a player once they have walked away from their spawn point
+     */
+    public void onMove(Player player, Point position) {
+        Integer index = assignments.get(player.getUuid());
+        if (index != null && position.distanceSquared(points.get(index)) > LEAVE_RADIUS * LEAVE_RADIUS) {
+            release(player);
+        }
+    }
+
+    public synchronized void release(Player player) {
+        Integer index = assignments.remove(player.getUuid());
+        if (index != null) {
+            occupancy[index]--;
+        }
+    }
+
+    public List<Pos> getPoints() {
+        return points;
+    }
+
+    public synchronized int getOccupancy(int index) {
+        return occupancy[index];
+    }
+
+    private static List<Pos> parsePoints(String value) {
+        List<Pos> points = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return points;
+        }
+
+        for (String entry : value.split(";")) {
+            String[] parts = entry.trim().split(",");
+            try {
+                if (parts.length == 3) {
+                    points.add(new Pos(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()),
+                            Double.parseDouble(parts[2].trim())));
+                } else if (parts.length == 5) {
+                    points.add(new Pos(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()),
+                            Double.parseDouble(parts[2].trim()), Float.parseFloat(parts[3].trim()),
+                            Float.parseFloat(parts[4].trim())));
+                } else if (!entry.isBlank()) {
+                    System.err.println("[SpawnAllocator] Ignoring spawn point '" + entry + "', expected x,y,z[,yaw,pitch]");
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("[SpawnAllocator] Ignoring spawn point '" + entry + "': " + e.getMessage());
+            }
+        }
+        return points;
+    }
+}